@@ -0,0 +1,86 @@
+package com.zenith.benchmarks;
+
+import com.zenith.entities.User;
+import com.zenith.enums.RoleType;
+import com.zenith.security.JwtService;
+import com.zenith.security.SecurityUser;
+import com.zenith.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private JwtService jwtService;
+    private SecurityUser userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 900000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+
+        User user = User.builder()
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .password("encodedPassword")
+                .role(RoleType.USER)
+                .build();
+        user.setId(UUID.randomUUID());
+        userDetails = new SecurityUser(user);
+        token = jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean verifyOnce() {
+        VerifiedToken verified = jwtService.verify(token);
+        return jwtService.isTokenValid(verified, userDetails);
+    }
+
+    // the filter path before the parser was shared: extractUsername, then isTokenValid
+    // re-extracting the subject and the expiration, each with a fresh key and parser
+    @Benchmark
+    public boolean legacyParsePerClaim() {
+        String username = legacyClaims(token).getSubject();
+        return username != null
+                && legacyClaims(token).getSubject().equals(userDetails.getUsername())
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
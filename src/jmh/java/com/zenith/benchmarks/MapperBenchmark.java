@@ -0,0 +1,115 @@
+package com.zenith.benchmarks;
+
+import com.zenith.dtos.responses.CommentResponse;
+import com.zenith.dtos.responses.PostResponse;
+import com.zenith.dtos.responses.UserResponse;
+import com.zenith.entities.Category;
+import com.zenith.entities.Comment;
+import com.zenith.entities.Post;
+import com.zenith.entities.Tag;
+import com.zenith.entities.User;
+import com.zenith.enums.CommentStatus;
+import com.zenith.enums.PostStatus;
+import com.zenith.enums.RoleType;
+import com.zenith.mappers.CommentMapper;
+import com.zenith.mappers.PostMapper;
+import com.zenith.mappers.UserMapper;
+import com.zenith.utils.UuidV7;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Entity to response mapping through the generated MapStruct implementations, one entity per call. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private PostMapper postMapper;
+    private CommentMapper commentMapper;
+    private UserMapper userMapper;
+    private User user;
+    private Post post;
+    private Comment comment;
+
+    @Setup
+    public void setUp() {
+        postMapper = Mappers.getMapper(PostMapper.class);
+        commentMapper = Mappers.getMapper(CommentMapper.class);
+        userMapper = Mappers.getMapper(UserMapper.class);
+
+        LocalDateTime now = LocalDateTime.now();
+        user = User.builder()
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .password("encodedPassword")
+                .role(RoleType.USER)
+                .build();
+        user.setId(UuidV7.randomUuid());
+        user.setCreatedAt(now);
+
+        Category category = Category.builder().name("Technology").build();
+        category.setId(UuidV7.randomUuid());
+        Tag java = Tag.builder().name("Java").build();
+        java.setId(UuidV7.randomUuid());
+        Tag spring = Tag.builder().name("Spring").build();
+        spring.setId(UuidV7.randomUuid());
+
+        post = Post.builder()
+                .title("Getting Started with Spring Boot")
+                .content("Spring Boot makes it easy to create stand-alone applications. ".repeat(20))
+                .status(PostStatus.PUBLISHED)
+                .author(user)
+                .category(category)
+                .tags(Set.of(java, spring))
+                .build();
+        post.setId(UuidV7.randomUuid());
+        post.setCreatedAt(now);
+        post.setUpdatedAt(now);
+
+        comment = Comment.builder()
+                .content("Great introduction, thanks!")
+                .status(CommentStatus.APPROVED)
+                .post(post)
+                .author(user)
+                .build();
+        comment.setId(UuidV7.randomUuid());
+        comment.setCreatedAt(now);
+        comment.setUpdatedAt(now);
+    }
+
+    @Benchmark
+    public PostResponse postToResponse() {
+        return postMapper.toResponse(post);
+    }
+
+    // the list path, with the tag count loaded by one grouped query per page instead of from the tag collection
+    @Benchmark
+    public PostResponse postToResponseWithTagCount() {
+        return postMapper.toResponse(post, 2);
+    }
+
+    @Benchmark
+    public CommentResponse commentToResponse() {
+        return commentMapper.toResponse(comment);
+    }
+
+    @Benchmark
+    public UserResponse userToResponse() {
+        return userMapper.toResponse(user);
+    }
+}
@@ -0,0 +1,73 @@
+package com.zenith.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.zenith.dtos.responses.PageResponse;
+import com.zenith.dtos.responses.PostResponse;
+import com.zenith.enums.PostStatus;
+import com.zenith.utils.UuidV7;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/** Serializes one page of post responses the way the message converter writes a list endpoint's body. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<PostResponse> page;
+
+    @Setup
+    public void setUp() {
+        // the defaults Spring Boot applies: java.time module registered, dates as ISO strings
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        UUID authorId = UuidV7.randomUuid();
+        UUID categoryId = UuidV7.randomUuid();
+        LocalDateTime now = LocalDateTime.now();
+        List<PostResponse> posts = IntStream.range(0, pageSize)
+                .mapToObj(i -> new PostResponse(
+                        UuidV7.randomUuid(),
+                        "Post title " + i,
+                        "Post content that is a few sentences long, as list pages return it in full. ".repeat(10),
+                        PostStatus.PUBLISHED,
+                        authorId,
+                        categoryId,
+                        now,
+                        now,
+                        3,
+                        12))
+                .toList();
+        page = new PageResponse<>(0, pageSize, 10_000, 10_000 / pageSize, posts);
+    }
+
+    @Benchmark
+    public byte[] writePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
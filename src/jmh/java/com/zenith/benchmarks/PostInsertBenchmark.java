@@ -0,0 +1,151 @@
+package com.zenith.benchmarks;
+
+import com.zenith.configs.ApplicationConfig;
+import com.zenith.entities.Category;
+import com.zenith.entities.Post;
+import com.zenith.entities.User;
+import com.zenith.enums.PostStatus;
+import com.zenith.enums.RoleType;
+import com.zenith.repositories.CategoryRepository;
+import com.zenith.repositories.PostRepository;
+import com.zenith.repositories.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Inserts 100k posts in transactions of 1000 against the configured PostgreSQL database, with JDBC batching and
+ * rewritten batch inserts disabled ({@code batched=false}) and enabled as in application.yml ({@code batched=true}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class PostInsertBenchmark {
+
+    private static final int POSTS = 100_000;
+    private static final int POSTS_PER_TRANSACTION = 1_000;
+
+    @Param({"false", "true"})
+    public boolean batched;
+
+    private ConfigurableApplicationContext context;
+    private PostRepository postRepository;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private User author;
+    private Category category;
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan("com.zenith.entities")
+    @EnableJpaRepositories("com.zenith.repositories")
+    @Import(ApplicationConfig.class)
+    static class PersistenceOnly {}
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class StatementCounters {
+        public long preparedStatements;
+
+        public long preparedStatementsPerTransaction;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            preparedStatements = 0;
+            preparedStatementsPerTransaction = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> args = batched
+                ? List.of("--spring.jpa.properties.hibernate.generate_statistics=true")
+                : List.of(
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=0",
+                        "--spring.jpa.properties.hibernate.order_inserts=false",
+                        "--spring.jpa.properties.hibernate.order_updates=false",
+                        "--spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=false");
+        context = new SpringApplicationBuilder(PersistenceOnly.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+
+        postRepository = context.getBean(PostRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        statistics = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        author = context.getBean(UserRepository.class)
+                .save(User.builder()
+                        .username("benchmark")
+                        .email("benchmark@example.com")
+                        .password("encodedPassword")
+                        .role(RoleType.USER)
+                        .build());
+        category = context.getBean(CategoryRepository.class)
+                .save(Category.builder().name("Benchmark").build());
+    }
+
+    @Setup(Level.Iteration)
+    public void clearPosts() {
+        postRepository.deleteAllInBatch();
+        statistics.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void insertPosts(StatementCounters counters) {
+        for (int offset = 0; offset < POSTS; offset += POSTS_PER_TRANSACTION) {
+            List<Post> posts = IntStream.range(offset, offset + POSTS_PER_TRANSACTION)
+                    .mapToObj(this::post)
+                    .toList();
+            transactionTemplate.executeWithoutResult(status -> postRepository.saveAll(posts));
+        }
+        counters.preparedStatements = statistics.getPrepareStatementCount();
+        counters.preparedStatementsPerTransaction = counters.preparedStatements / (POSTS / POSTS_PER_TRANSACTION);
+    }
+
+    private Post post(int index) {
+        return Post.builder()
+                .title("Benchmark post " + index)
+                .content("Content of benchmark post " + index)
+                .status(PostStatus.PUBLISHED)
+                .author(author)
+                .category(category)
+                .build();
+    }
+}
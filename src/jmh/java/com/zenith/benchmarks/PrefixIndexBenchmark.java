@@ -0,0 +1,70 @@
+package com.zenith.benchmarks;
+
+import com.zenith.utils.PrefixIndex;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Suggestion lookups against a post title index, for a common word, a rare word and a two-word query. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrefixIndexBenchmark {
+
+    private static final String[] WORDS = {
+        "spring", "boot", "java", "postgres", "security", "testing", "records", "streams", "virtual", "threads",
+        "caching", "indexes", "queries", "mapping", "kotlin", "gradle", "maven", "docker", "reactive", "metrics"
+    };
+    private static final int LIMIT = 10;
+
+    @Param({"100000"})
+    private int documents;
+
+    private PrefixIndex<String> index;
+
+    @Setup
+    public void setUp() {
+        index = new PrefixIndex<>();
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < documents; i++) {
+            String title =
+                    WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " part " + i;
+            index.put(UUID.randomUUID(), title, List.of(title));
+        }
+    }
+
+    @Benchmark
+    public List<String> singleLetter() {
+        return index.search("s", LIMIT);
+    }
+
+    @Benchmark
+    public List<String> commonPrefix() {
+        return index.search("sp", LIMIT);
+    }
+
+    @Benchmark
+    public List<String> rarePrefix() {
+        return index.search("part 4242", LIMIT);
+    }
+
+    @Benchmark
+    public List<String> twoWords() {
+        return index.search("kotlin gra", LIMIT);
+    }
+}
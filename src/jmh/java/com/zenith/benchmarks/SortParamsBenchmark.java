@@ -0,0 +1,58 @@
+package com.zenith.benchmarks;
+
+import com.zenith.exceptions.ValidationException;
+import com.zenith.services.PostService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * The sort handling every paginated list endpoint runs before its query: validateSortParams, then the Sort and
+ * PageRequest built in the controller. The invalid field measures the rejection path, which allocates an exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SortParamsBenchmark {
+
+    @Param({"createdAt", "invalidField"})
+    public String sortBy;
+
+    @Param({"DESC"})
+    public String sortDirection;
+
+    private PostService postService;
+
+    @Setup
+    public void setUp() {
+        // validateSortParams touches no collaborator
+        postService = new PostService(null, null, null, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public Object validateAndBuildPageRequest() {
+        try {
+            postService.validateSortParams(sortBy, sortDirection);
+        } catch (ValidationException e) {
+            return e;
+        }
+        Sort sort = sortDirection.equalsIgnoreCase("asc")
+                ? Sort.by(sortBy).ascending()
+                : Sort.by(sortBy).descending();
+        return PageRequest.of(0, 20, sort);
+    }
+}
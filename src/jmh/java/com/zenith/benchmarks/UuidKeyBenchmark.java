@@ -0,0 +1,121 @@
+package com.zenith.benchmarks;
+
+import com.zenith.utils.UuidV7;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Inserts one million rows keyed by random UUIDv4 or time-ordered UUIDv7 ids into a PostgreSQL table and reports the
+ * resulting primary key index size. Runs against a Testcontainers PostgreSQL unless SPRING_DATASOURCE_URL is set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UuidKeyBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int ROWS_PER_TRANSACTION = 1_000;
+
+    @Param({"v4", "v7"})
+    public String version;
+
+    private PostgreSQLContainer<?> container;
+    private Connection connection;
+    private Supplier<UUID> ids;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class IndexSize {
+        public long indexKilobytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            indexKilobytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getenv("SPRING_DATASOURCE_URL");
+        if (url != null) {
+            connection = DriverManager.getConnection(
+                    url, System.getenv("SPRING_DATASOURCE_USERNAME"), System.getenv("SPRING_DATASOURCE_PASSWORD"));
+        } else {
+            container = new PostgreSQLContainer<>(DockerImageName.parse("postgres:17-alpine"));
+            container.start();
+            connection = DriverManager.getConnection(
+                    container.getJdbcUrl(), container.getUsername(), container.getPassword());
+        }
+        connection.setAutoCommit(false);
+        ids = "v7".equals(version) ? UuidV7::randomUuid : UUID::randomUUID;
+    }
+
+    @Setup(Level.Iteration)
+    public void createTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_keys");
+            statement.execute("CREATE TABLE uuid_keys (id uuid PRIMARY KEY, payload text NOT NULL)");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_keys");
+        }
+        connection.commit();
+        connection.close();
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Benchmark
+    public void insertRows(IndexSize indexSize) throws SQLException {
+        try (PreparedStatement insert =
+                connection.prepareStatement("INSERT INTO uuid_keys (id, payload) VALUES (?, ?)")) {
+            for (int row = 1; row <= ROWS; row++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "row " + row);
+                insert.addBatch();
+                if (row % ROWS_PER_TRANSACTION == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        try (Statement statement = connection.createStatement();
+                ResultSet size = statement.executeQuery("SELECT pg_relation_size('uuid_keys_pkey')")) {
+            size.next();
+            indexSize.indexKilobytes = size.getLong(1) / 1024;
+        }
+        connection.commit();
+    }
+}
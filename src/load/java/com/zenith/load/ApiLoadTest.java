@@ -0,0 +1,169 @@
+package com.zenith.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenith.TestcontainersConfiguration;
+import com.zenith.load.LoadTestClient.Operation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Boots the application on a random port against the Testcontainers PostgreSQL, with the data generator sized by the
+ * {@code load.*} system properties, and drives mixed read and write traffic through the post, comment and auth
+ * endpoints from one virtual thread per client. Latency percentiles and throughput per operation are logged and written to
+ * {@code target/load-test-report.txt}. Only compiled and run with the {@code load-test} profile.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(TestcontainersConfiguration.class)
+class ApiLoadTest {
+
+    private static final Path REPORT = Path.of("target", "load-test-report.txt");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.data-generator.password}")
+    private String password;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        registry.add("app.jwt.secret", () -> Base64.getEncoder().encodeToString(key));
+
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        registry.add("app.data-generator.enabled", () -> true);
+        registry.add("app.data-generator.users", settings::users);
+        registry.add("app.data-generator.posts-per-user", settings::postsPerUser);
+        registry.add("app.data-generator.comments-per-post", settings::commentsPerPost);
+        registry.add("app.data-generator.categories", settings::categories);
+        registry.add("app.data-generator.tags", settings::tags);
+        registry.add("app.data-generator.seed", settings::seed);
+    }
+
+    @Test
+    @DisplayName("should serve mixed traffic within the error budget")
+    void shouldServeMixedTraffic() throws Exception {
+        // Arrange
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        log.info("Load test: {}", settings);
+        // the data generator filled the database during startup
+        LoadTestData data = LoadTestData.load(jdbcTemplate, password);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        URI baseUri = URI.create("http://localhost:" + port);
+
+        // Act
+        drive(httpClient, baseUri, data, settings, settings.warmup(), new SimpleMeterRegistry());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Duration elapsed = drive(httpClient, baseUri, data, settings, settings.duration(), registry);
+
+        // Assert
+        String report = report(registry, elapsed);
+        log.info("Load test results over {} s:\n{}", elapsed.toSeconds(), report);
+        writeReport(settings, report);
+
+        double requests = registry.find("load.requests").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+        double errors = registry.find("load.errors").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+        assertThat(requests).isPositive();
+        assertThat(errors / requests).isLessThanOrEqualTo(settings.maxErrorRate());
+    }
+
+    private Duration drive(
+            HttpClient httpClient,
+            URI baseUri,
+            LoadTestData data,
+            LoadTestSettings settings,
+            Duration duration,
+            MeterRegistry registry)
+            throws InterruptedException {
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.clients(); i++) {
+                clients.execute(new LoadTestClient(
+                        httpClient, baseUri, objectMapper, data, registry, deadline, settings.seed() + i));
+            }
+            clients.shutdown();
+            if (!clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+                clients.shutdownNow();
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - started);
+    }
+
+    private static String report(MeterRegistry registry, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        StringBuilder report = new StringBuilder(String.format(
+                "%-28s %9s %7s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms"));
+        long totalRequests = 0;
+        double totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Timer timer = LoadTestClient.timer(registry, operation);
+            double errors = registry.find("load.errors").tag("operation", operation.label).counters().stream()
+                    .mapToDouble(Counter::count)
+                    .sum();
+            ValueAtPercentile[] percentiles = timer.takeSnapshot().percentileValues();
+            report.append(String.format(
+                    "%-28s %9d %7.0f %9.1f %9.2f %9.2f %9.2f%n",
+                    operation.label,
+                    timer.count(),
+                    errors,
+                    timer.count() / seconds,
+                    percentiles[0].value(TimeUnit.MILLISECONDS),
+                    percentiles[1].value(TimeUnit.MILLISECONDS),
+                    percentiles[2].value(TimeUnit.MILLISECONDS)));
+            totalRequests += timer.count();
+            totalErrors += errors;
+        }
+        report.append(
+                String.format("%-28s %9d %7.0f %9.1f%n", "total", totalRequests, totalErrors, totalRequests / seconds));
+        return report.toString();
+    }
+
+    private static void writeReport(LoadTestSettings settings, String report) throws IOException {
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, settings + System.lineSeparator() + report);
+    }
+}
@@ -0,0 +1,232 @@
+package com.zenith.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One simulated user: logs in, then issues a weighted mix of requests back to back until the deadline. Every request is
+ * timed into a per-operation timer; unexpected statuses and transport failures are counted as errors.
+ */
+class LoadTestClient implements Runnable {
+
+    // terms from the data generator's vocabulary, from very common to rare
+    private static final List<String> QUERY_TERMS = List.of(
+            "spring", "java", "travel", "coffee", "garden", "postgres", "cache", "recipe", "marathon", "hiking");
+
+    private static final AtomicInteger REGISTERED = new AtomicInteger();
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final LoadTestData data;
+    private final long deadline;
+    private final Random random;
+    private final Map<Operation, Timer> timers = new EnumMap<>(Operation.class);
+    private final MeterRegistry registry;
+    private final String username;
+    private String token;
+
+    LoadTestClient(
+            HttpClient httpClient,
+            URI baseUri,
+            ObjectMapper objectMapper,
+            LoadTestData data,
+            MeterRegistry registry,
+            long deadline,
+            long seed) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.data = data;
+        this.registry = registry;
+        this.deadline = deadline;
+        this.random = new Random(seed);
+        this.username = pick(random, data.usernames());
+        for (Operation operation : Operation.values()) {
+            timers.put(operation, timer(registry, operation));
+        }
+    }
+
+    static Timer timer(MeterRegistry registry, Operation operation) {
+        return Timer.builder("load.requests")
+                .tag("operation", operation.label)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .percentilePrecision(2)
+                // one bucket for the whole run instead of the default two-minute rolling window
+                .distributionStatisticExpiry(Duration.ofDays(1))
+                .distributionStatisticBufferLength(1)
+                .register(registry);
+    }
+
+    @Override
+    public void run() {
+        execute(Operation.LOGIN);
+        while (System.nanoTime() < deadline) {
+            execute(nextOperation());
+        }
+    }
+
+    private Operation nextOperation() {
+        int roll = random.nextInt(Operation.TOTAL_WEIGHT);
+        for (Operation operation : Operation.values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Operation weights do not add up");
+    }
+
+    private void execute(Operation operation) {
+        HttpRequest request;
+        try {
+            request = request(operation);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        long started = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            timers.get(operation).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            error(operation, "io");
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        timers.get(operation).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        if (response.statusCode() != operation.expectedStatus) {
+            error(operation, String.valueOf(response.statusCode()));
+        } else if (operation == Operation.LOGIN) {
+            try {
+                token = objectMapper.readTree(response.body()).path("token").asText();
+            } catch (JsonProcessingException e) {
+                error(operation, "body");
+            }
+        }
+    }
+
+    private void error(Operation operation, String status) {
+        registry.counter("load.errors", "operation", operation.label, "status", status)
+                .increment();
+    }
+
+    private HttpRequest request(Operation operation) throws JsonProcessingException {
+        UUID postId = pick(random, data.publishedPostIds());
+        return switch (operation) {
+            case LIST_POSTS -> get("/api/v1/posts?page=" + random.nextInt(50) + "&size=20");
+            case FILTER_POSTS ->
+                get("/api/v1/posts?size=20&tag=" + encode(pick(random, data.tagNames())) + "&categoryId="
+                        + pick(random, data.categoryIds()));
+            case GET_POST -> get("/api/v1/posts/" + postId);
+            case SEARCH_POSTS -> get("/api/v1/posts/search?q=" + encode(words(random, 2)));
+            case SUGGEST_POSTS ->
+                get("/api/v1/posts/suggest?q=" + pick(random, QUERY_TERMS).substring(0, 3));
+            case LIST_COMMENTS -> get("/api/v1/posts/" + postId + "/comments?size=20");
+            case CREATE_COMMENT -> post("/api/v1/posts/" + postId + "/comments", Map.of("content", words(random, 20)));
+            case CREATE_POST ->
+                post(
+                        "/api/v1/posts",
+                        Map.of(
+                                "title", words(random, 6),
+                                "content", words(random, 120),
+                                "categoryId", pick(random, data.categoryIds()),
+                                "tags", Set.of(pick(random, data.tagNames()))));
+            case LOGIN -> post("/api/v1/auth/login", Map.of("username", username, "password", data.password()));
+            case REGISTER -> {
+                String name = "load_signup_" + REGISTERED.incrementAndGet() + "_" + random.nextInt(1_000_000);
+                yield post(
+                        "/api/v1/auth/register",
+                        Map.of("username", name, "email", name + "@example.com", "password", data.password()));
+            }
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return authenticated(HttpRequest.newBuilder(baseUri.resolve(path)).GET(), path);
+    }
+
+    private HttpRequest post(String path, Map<String, ?> body) throws JsonProcessingException {
+        return authenticated(
+                HttpRequest.newBuilder(baseUri.resolve(path))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))),
+                path);
+    }
+
+    // signed-in traffic, as from a logged-in browser session; single post reads require a principal
+    private HttpRequest authenticated(HttpRequest.Builder builder, String path) {
+        if (token != null && !path.startsWith("/api/v1/auth/")) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(pick(random, QUERY_TERMS));
+        }
+        return text.toString();
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /** The request mix; weights are relative shares of all requests. */
+    enum Operation {
+        LIST_POSTS("GET /posts", 25, 200),
+        FILTER_POSTS("GET /posts?tag&categoryId", 5, 200),
+        GET_POST("GET /posts/{id}", 20, 200),
+        SEARCH_POSTS("GET /posts/search", 5, 200),
+        SUGGEST_POSTS("GET /posts/suggest", 5, 200),
+        LIST_COMMENTS("GET /posts/{id}/comments", 20, 200),
+        CREATE_COMMENT("POST /posts/{id}/comments", 10, 201),
+        CREATE_POST("POST /posts", 4, 201),
+        LOGIN("POST /auth/login", 5, 200),
+        REGISTER("POST /auth/register", 1, 201);
+
+        static final int TOTAL_WEIGHT = List.of(values()).stream()
+                .mapToInt(operation -> operation.weight)
+                .sum();
+
+        final String label;
+        final int weight;
+        final int expectedStatus;
+
+        Operation(String label, int weight, int expectedStatus) {
+            this.label = label;
+            this.weight = weight;
+            this.expectedStatus = expectedStatus;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.zenith.load;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** What the clients pick from: the generated accounts, categories, tags and a sample of published posts. */
+record LoadTestData(
+        List<String> usernames,
+        String password,
+        List<UUID> categoryIds,
+        List<String> tagNames,
+        List<UUID> publishedPostIds) {
+
+    private static final int MAX_POSTS = 100_000;
+
+    static LoadTestData load(JdbcTemplate jdbcTemplate, String password) {
+        return new LoadTestData(
+                jdbcTemplate.queryForList("SELECT username FROM users", String.class),
+                password,
+                jdbcTemplate.queryForList("SELECT id FROM categories", UUID.class),
+                jdbcTemplate.queryForList("SELECT name FROM tags", String.class),
+                jdbcTemplate.queryForList(
+                        "SELECT id FROM posts WHERE status = 'PUBLISHED' LIMIT ?", UUID.class, MAX_POSTS));
+    }
+}
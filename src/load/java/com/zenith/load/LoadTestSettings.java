@@ -0,0 +1,40 @@
+package com.zenith.load;
+
+import java.time.Duration;
+
+/**
+ * Dataset size and traffic shape of a load test run, read from {@code load.*} system properties. The dataset is written
+ * by the data generator, configured from these values.
+ */
+record LoadTestSettings(
+        int users,
+        int postsPerUser,
+        int commentsPerPost,
+        int categories,
+        int tags,
+        int clients,
+        Duration warmup,
+        Duration duration,
+        double maxErrorRate,
+        long seed) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("load.users", 2_000),
+                Integer.getInteger("load.posts-per-user", 10),
+                Integer.getInteger("load.comments-per-post", 5),
+                Integer.getInteger("load.categories", 20),
+                Integer.getInteger("load.tags", 200),
+                Integer.getInteger("load.clients", 200),
+                Duration.parse(System.getProperty("load.warmup", "PT10S")),
+                Duration.parse(System.getProperty("load.duration", "PT60S")),
+                Double.parseDouble(System.getProperty("load.max-error-rate", "0.01")),
+                Long.getLong("load.seed", 42L));
+    }
+
+    @Override
+    public String toString() {
+        return "%d users, %d posts per user, %d comments per post, %d categories, %d tags; %d clients for %s after %s warmup"
+                .formatted(users, postsPerUser, commentsPerPost, categories, tags, clients, duration, warmup);
+    }
+}
@@ -0,0 +1,17 @@
+package com.zenith.configs;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// runs outside the transaction interceptor so hits skip the transaction and evictions follow the commit
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+    public static final String CATEGORIES = "categories";
+    public static final String CATEGORY = "category";
+    public static final String TAGS = "tags";
+    public static final String TAG = "tag";
+    public static final String CATEGORY_POST_COUNTS = "category-post-counts";
+    public static final String TAG_POST_COUNTS = "tag-post-counts";
+}
@@ -0,0 +1,354 @@
+package com.zenith.configs;
+
+import com.zenith.enums.CommentStatus;
+import com.zenith.enums.PostStatus;
+import com.zenith.enums.RoleType;
+import com.zenith.repositories.PostRepository;
+import com.zenith.repositories.UserRepository;
+import com.zenith.utils.UuidV7;
+import com.zenith.utils.ZipfDistribution;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills an empty database with a synthetic dataset sized to reproduce production query plans. Posts per author follow a
+ * Zipf distribution, and so do categories, tags and the words of titles and content. Every post gets a random number of
+ * comments. Rows are written with batched inserts from several threads, which the driver's {@code reWriteBatchedInserts}
+ * turns into multi-row statements. Each chunk draws from its own seeded random, so a seed always produces the same
+ * dataset. Ids are UUIDv7 values of the backdated creation times. Runs at startup only when
+ * {@code app.data-generator.enabled} is true.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.data-generator.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DataGenerator implements CommandLineRunner {
+
+    private static final List<String> CATEGORY_NAMES = List.of(
+            "Technology",
+            "Lifestyle",
+            "Travel",
+            "Food",
+            "Health",
+            "Science",
+            "Business",
+            "Culture",
+            "Sports",
+            "Education");
+
+    // rough frequency order, sampled with the same skew so full-text queries see common and rare terms
+    private static final List<String> WORDS = List.of(
+            """
+            the and with for how your about guide spring java travel data home life work time first best simple
+            better city food coffee design team code cloud garden budget weekend review notes lessons tips build
+            learn small quick modern health music reading running history mountain recipe camera network release
+            testing postgres index cache query schema thread stream kotlin backup security startup market family
+            school summer winter ocean forest bread pasta yoga sleep habits focus writing career money invest
+            energy climate planet space robot machine learning model latency throughput migration refactor
+            deploy kubernetes docker linux terminal editor keyboard sourdough espresso marathon hiking
+            """
+                    .split("\\s+"));
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.data-generator.users}")
+    private int users;
+
+    @Value("${app.data-generator.posts-per-user}")
+    private int postsPerUser;
+
+    @Value("${app.data-generator.comments-per-post}")
+    private int commentsPerPost;
+
+    @Value("${app.data-generator.categories}")
+    private int categories;
+
+    @Value("${app.data-generator.tags}")
+    private int tags;
+
+    @Value("${app.data-generator.max-tags-per-post}")
+    private int maxTagsPerPost;
+
+    @Value("${app.data-generator.zipf-exponent}")
+    private double zipfExponent;
+
+    @Value("${app.data-generator.history}")
+    private Duration history;
+
+    @Value("${app.data-generator.threads}")
+    private int threads;
+
+    @Value("${app.data-generator.chunk-size}")
+    private int chunkSize;
+
+    @Value("${app.data-generator.seed}")
+    private long seed;
+
+    @Value("${app.data-generator.password}")
+    private String password;
+
+    @Override
+    public void run(String... args) throws InterruptedException {
+        if (userRepository.count() > 0) {
+            log.warn("Skipping data generation, the database already contains users");
+            return;
+        }
+        long started = System.nanoTime();
+        long now = System.currentTimeMillis();
+        long since = now - history.toMillis();
+
+        SplittableRandom random = new SplittableRandom(seed);
+        List<UUID> categoryIds = insertNamed("categories", CATEGORY_NAMES, categories, since, random);
+        // tags are named after the words past the leading filler words
+        List<UUID> tagIds = insertNamed("tags", WORDS.subList(8, WORDS.size()), tags, since, random);
+        UUID[] userIds = new UUID[users];
+        long[] userCreatedAt = new long[users];
+        AtomicLong postCount = new AtomicLong();
+        AtomicLong commentCount = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            String encodedPassword = passwordEncoder.encode(password);
+            inChunks(executor, users, from -> insertUsers(from, userIds, userCreatedAt, encodedPassword, since, now));
+            log.info("Generated {} users", users);
+
+            Dataset dataset = new Dataset(
+                    userIds,
+                    userCreatedAt,
+                    categoryIds,
+                    tagIds,
+                    new ZipfDistribution(users, zipfExponent),
+                    new ZipfDistribution(categoryIds.size(), zipfExponent),
+                    new ZipfDistribution(tagIds.size(), zipfExponent),
+                    new ZipfDistribution(WORDS.size(), zipfExponent),
+                    now);
+            inChunks(
+                    executor,
+                    Math.multiplyExact(users, postsPerUser),
+                    from -> insertPosts(from, dataset, postCount, commentCount));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            postRepository.reconcileCommentCounts();
+            userRepository.reconcilePostCounts();
+            userRepository.reconcileCommentCounts();
+        });
+        jdbcTemplate.execute("ANALYZE");
+
+        log.info(
+                "Generated {} users, {} posts and {} comments in {} s",
+                users,
+                postCount.get(),
+                commentCount.get(),
+                Duration.ofNanos(System.nanoTime() - started).toSeconds());
+    }
+
+    private List<UUID> insertNamed(
+            String table, List<String> baseNames, int count, long createdAt, RandomGenerator random) {
+        List<UUID> ids = new ArrayList<>(count);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // names must stay unique, so later rounds through the base names get a suffix
+            String name =
+                    baseNames.get(i % baseNames.size()) + (i < baseNames.size() ? "" : " " + (i / baseNames.size()));
+            UUID id = UuidV7.forTimestamp(createdAt, random);
+            ids.add(id);
+            rows.add(new Object[] {id, name, timestamp(createdAt), timestamp(createdAt)});
+        }
+        insert("INSERT INTO " + table + " (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)", rows);
+        return ids;
+    }
+
+    private void insertUsers(
+            int from, UUID[] userIds, long[] userCreatedAt, String encodedPassword, long since, long now) {
+        RandomGenerator random = chunkRandom(-1 - from);
+        int to = Math.min(from + chunkSize, users);
+        List<Object[]> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            // earlier ranks joined earlier, so the most active authors have the longest history
+            long createdAt = since + (now - since) / 2 * i / users;
+            userIds[i] = UuidV7.forTimestamp(createdAt, random);
+            userCreatedAt[i] = createdAt;
+            rows.add(new Object[] {
+                userIds[i],
+                "user_" + i,
+                "user" + i + "@example.com",
+                encodedPassword,
+                i == 0 ? RoleType.ADMIN.name() : i == 1 ? RoleType.MODERATOR.name() : RoleType.USER.name(),
+                timestamp(createdAt),
+                timestamp(createdAt)
+            });
+        }
+        insert(
+                "INSERT INTO users (id, username, email, password, role, created_at, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    private void insertPosts(int from, Dataset dataset, AtomicLong postCount, AtomicLong commentCount) {
+        RandomGenerator random = chunkRandom(from);
+        int to = Math.min(from + chunkSize, users * postsPerUser);
+        List<Object[]> posts = new ArrayList<>(to - from);
+        List<Object[]> postTags = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            int author = dataset.authors().sample(random);
+            long createdAt = between(random, dataset.userCreatedAt()[author], dataset.now());
+            UUID postId = UuidV7.forTimestamp(createdAt, random);
+            posts.add(new Object[] {
+                postId,
+                title(random, dataset),
+                words(random, dataset, 50 + random.nextInt(250)),
+                postStatus(random).name(),
+                dataset.userIds()[author],
+                dataset.categoryIds().get(dataset.categoryRanks().sample(random)),
+                timestamp(createdAt),
+                timestamp(createdAt)
+            });
+
+            Set<UUID> postTagIds = new LinkedHashSet<>();
+            int tagCount = 1 + random.nextInt(maxTagsPerPost);
+            while (postTagIds.size() < Math.min(tagCount, dataset.tagIds().size())) {
+                postTagIds.add(dataset.tagIds().get(dataset.tagRanks().sample(random)));
+            }
+            postTagIds.forEach(tagId -> postTags.add(new Object[] {postId, tagId}));
+
+            int postComments = random.nextInt(2 * commentsPerPost + 1);
+            for (int c = 0; c < postComments; c++) {
+                long commentedAt = between(random, createdAt, dataset.now());
+                comments.add(new Object[] {
+                    UuidV7.forTimestamp(commentedAt, random),
+                    words(random, dataset, 5 + random.nextInt(40)),
+                    commentStatus(random).name(),
+                    postId,
+                    dataset.userIds()[random.nextInt(users)],
+                    timestamp(commentedAt),
+                    timestamp(commentedAt)
+                });
+            }
+        }
+        insert(
+                "INSERT INTO posts (id, title, content, status, author_id, category_id, created_at, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                posts);
+        insert("INSERT INTO post_tags (post_id, tag_id) VALUES (?, ?)", postTags);
+        insert(
+                "INSERT INTO comments (id, content, status, post_id, author_id, created_at, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?)",
+                comments);
+
+        long total = postCount.addAndGet(posts.size());
+        commentCount.addAndGet(comments.size());
+        if (total / 100_000 != (total - posts.size()) / 100_000) {
+            log.info("Generated {} of {} posts", total, (long) users * postsPerUser);
+        }
+    }
+
+    // chunks run in any order on any thread; tasks share no mutable state beyond disjoint array ranges and counters
+    private void inChunks(ExecutorService executor, int total, IntConsumer chunk) throws InterruptedException {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < total; from += chunkSize) {
+            int start = from;
+            futures.add(executor.submit(() -> chunk.accept(start)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Data generation failed", e.getCause());
+        }
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private RandomGenerator chunkRandom(long chunk) {
+        return new SplittableRandom(seed * 31 + chunk);
+    }
+
+    private String title(RandomGenerator random, Dataset dataset) {
+        String title = words(random, dataset, 3 + random.nextInt(6));
+        title = Character.toUpperCase(title.charAt(0)) + title.substring(1);
+        return title.length() <= 100 ? title : title.substring(0, 100);
+    }
+
+    private static String words(RandomGenerator random, Dataset dataset, int count) {
+        StringBuilder text = new StringBuilder(count * 8);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS.get(dataset.wordRanks().sample(random)));
+        }
+        return text.toString();
+    }
+
+    private static PostStatus postStatus(RandomGenerator random) {
+        int roll = random.nextInt(100);
+        return roll < 80 ? PostStatus.PUBLISHED : roll < 90 ? PostStatus.DRAFT : PostStatus.ARCHIVED;
+    }
+
+    private static CommentStatus commentStatus(RandomGenerator random) {
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return CommentStatus.APPROVED;
+        }
+        if (roll < 90) {
+            return CommentStatus.PENDING;
+        }
+        return roll < 95 ? CommentStatus.REJECTED : CommentStatus.ARCHIVED;
+    }
+
+    private static long between(RandomGenerator random, long from, long to) {
+        return from + random.nextLong(to - from + 1);
+    }
+
+    private static LocalDateTime timestamp(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record Dataset(
+            UUID[] userIds,
+            long[] userCreatedAt,
+            List<UUID> categoryIds,
+            List<UUID> tagIds,
+            ZipfDistribution authors,
+            ZipfDistribution categoryRanks,
+            ZipfDistribution tagRanks,
+            ZipfDistribution wordRanks,
+            long now) {}
+}
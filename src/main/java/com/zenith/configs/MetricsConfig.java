@@ -0,0 +1,34 @@
+package com.zenith.configs;
+
+import com.zenith.metrics.ServiceMetricsAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    // Prometheus keeps one tag set per meter name, so the Spring caches' extra cache.manager and name tags would hide
+    // them behind the standalone Caffeine caches in the security package; cache names are unique without them
+    @Bean
+    public MeterFilter cacheTagsMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                return id.getName().startsWith("cache.")
+                        ? id.replaceTags(id.getTags().stream()
+                                .filter(tag -> !tag.getKey().equals("cache.manager")
+                                        && !tag.getKey().equals("name"))
+                                .toList())
+                        : id;
+            }
+        };
+    }
+}
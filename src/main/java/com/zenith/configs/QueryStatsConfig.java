@@ -0,0 +1,29 @@
+package com.zenith.configs;
+
+import com.zenith.metrics.QueryStatsDataSourcePostProcessor;
+import com.zenith.metrics.QueryStatsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QueryStatsConfig {
+
+    @Bean
+    static QueryStatsDataSourcePostProcessor queryStatsDataSourcePostProcessor() {
+        return new QueryStatsDataSourcePostProcessor();
+    }
+
+    // ahead of the security filter chain, so the token checks it runs are counted too
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(
+            MeterRegistry meterRegistry, @Value("${app.sql-stats.server-timing}") boolean serverTiming) {
+        FilterRegistrationBean<QueryStatsFilter> registration =
+                new FilterRegistrationBean<>(new QueryStatsFilter(meterRegistry, serverTiming));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
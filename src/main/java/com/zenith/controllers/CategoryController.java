@@ -44,7 +44,11 @@ public class CategoryController {
                 @Parameter(
                         name = "sortDirection",
                         description = "Sort direction (ASC or DESC)",
-                        schema = @Schema(allowableValues = {"ASC", "DESC"}))
+                        schema = @Schema(allowableValues = {"ASC", "DESC"})),
+                @Parameter(
+                        name = "includeTotal",
+                        description = "Whether to count totalElements and totalPages, false skips the count query",
+                        schema = @Schema(defaultValue = "true"))
             },
             responses = {
                 @ApiResponse(
@@ -61,13 +65,14 @@ public class CategoryController {
             @RequestParam(name = "page", required = false, defaultValue = "0") @Min(0) int page,
             @RequestParam(name = "size", required = false, defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
-            @RequestParam(name = "sortDirection", required = false, defaultValue = "ASC") String sortDirection) {
+            @RequestParam(name = "sortDirection", required = false, defaultValue = "ASC") String sortDirection,
+            @RequestParam(name = "includeTotal", required = false, defaultValue = "true") boolean includeTotal) {
         categoryService.validateSortParams(sortBy, sortDirection);
         Sort sort = sortDirection.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
         PageRequest pageable = PageRequest.of(page, size, sort);
-        return categoryService.getAllCategories(pageable);
+        return categoryService.getAllCategories(pageable, includeTotal);
     }
 
     @Operation(
@@ -47,7 +47,11 @@ public class CommentController {
                         name = "sortDirection",
                         description = "Sort direction (ASC or DESC)",
                         schema = @Schema(allowableValues = {"ASC", "DESC"})),
-                @Parameter(name = "postId", description = "ID of the post to get comments for", required = true)
+                @Parameter(name = "postId", description = "ID of the post to get comments for", required = true),
+                @Parameter(
+                        name = "includeTotal",
+                        description = "Whether to count totalElements and totalPages, false skips the count query",
+                        schema = @Schema(defaultValue = "true"))
             },
             responses = {
                 @ApiResponse(
@@ -65,13 +69,14 @@ public class CommentController {
             @RequestParam(name = "size", required = false, defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(name = "sortDirection", required = false, defaultValue = "ASC") String sortDirection,
-            @PathVariable("postId") UUID postId) {
+            @PathVariable("postId") UUID postId,
+            @RequestParam(name = "includeTotal", required = false, defaultValue = "true") boolean includeTotal) {
         commentService.validateSortParams(sortBy, sortDirection);
         Sort sort = sortDirection.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
         PageRequest pageable = PageRequest.of(page, size, sort);
-        return commentService.getAllComments(postId, pageable);
+        return commentService.getAllComments(postId, pageable, includeTotal);
     }
 
     @Operation(
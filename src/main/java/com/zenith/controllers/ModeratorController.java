@@ -48,6 +48,10 @@ public class ModeratorController {
                         description = "Sort direction (ASC or DESC)",
                         schema = @Schema(allowableValues = {"ASC", "DESC"})),
                 @Parameter(name = "status", description = "Status of the posts to filter by", required = true),
+                @Parameter(
+                        name = "includeTotal",
+                        description = "Whether to count totalElements and totalPages, false skips the count query",
+                        schema = @Schema(defaultValue = "true"))
             },
             responses = {
                 @ApiResponse(
@@ -65,13 +69,14 @@ public class ModeratorController {
             @RequestParam(name = "size", required = false, defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(name = "sortDirection", required = false, defaultValue = "ASC") String sortDirection,
-            @RequestParam(value = "status") PostStatus status) {
+            @RequestParam(value = "status") PostStatus status,
+            @RequestParam(name = "includeTotal", required = false, defaultValue = "true") boolean includeTotal) {
         postService.validateSortParams(sortBy, sortDirection);
         Sort sort = sortDirection.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
         PageRequest pageable = PageRequest.of(page, size, sort);
-        return postService.getPostsByStatus(status, pageable);
+        return postService.getPostsByStatus(status, pageable, includeTotal);
     }
 
     @Operation(
@@ -111,7 +116,11 @@ public class ModeratorController {
                         name = "sortDirection",
                         description = "Sort direction (ASC or DESC)",
                         schema = @Schema(allowableValues = {"ASC", "DESC"})),
-                @Parameter(name = "status", description = "Status of the comments to filter by", required = true)
+                @Parameter(name = "status", description = "Status of the comments to filter by", required = true),
+                @Parameter(
+                        name = "includeTotal",
+                        description = "Whether to count totalElements and totalPages, false skips the count query",
+                        schema = @Schema(defaultValue = "true"))
             },
             responses = {
                 @ApiResponse(
@@ -129,14 +138,15 @@ public class ModeratorController {
             @RequestParam(name = "size", required = false, defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(name = "sortDirection", required = false, defaultValue = "ASC") String sortDirection,
-            @RequestParam("status") CommentStatus status) {
+            @RequestParam("status") CommentStatus status,
+            @RequestParam(name = "includeTotal", required = false, defaultValue = "true") boolean includeTotal) {
         commentService.validateSortParams(sortBy, sortDirection);
         Sort sort = sortDirection.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
         PageRequest pageable = PageRequest.of(page, size, sort);
 
-        return commentService.getCommentsByStatus(status, pageable);
+        return commentService.getCommentsByStatus(status, pageable, includeTotal);
     }
 
     @Operation(
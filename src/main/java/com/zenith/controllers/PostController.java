@@ -1,26 +1,48 @@
 package com.zenith.controllers;
 
 import com.zenith.dtos.requests.CreatePostRequest;
+import com.zenith.dtos.requests.PostFilter;
 import com.zenith.dtos.requests.UpdatePostRequest;
+import com.zenith.dtos.responses.CursorPageResponse;
 import com.zenith.dtos.responses.PageResponse;
+import com.zenith.dtos.responses.PostExport;
+import com.zenith.dtos.responses.PostImportResult;
 import com.zenith.dtos.responses.PostResponse;
+import com.zenith.dtos.responses.PostSearchResult;
+import com.zenith.dtos.responses.PostSuggestion;
 import com.zenith.enums.PostStatus;
+import com.zenith.enums.TagMatch;
 import com.zenith.security.SecurityUser;
+import com.zenith.services.PostExportService;
+import com.zenith.services.PostImportService;
 import com.zenith.services.PostService;
+import com.zenith.services.PostSuggestionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -30,10 +52,15 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Posts", description = "Post management operations")
 public class PostController {
     private final PostService postService;
+    private final PostImportService postImportService;
+    private final PostExportService postExportService;
+    private final PostSuggestionService postSuggestionService;
 
     @Operation(
             summary = "Get published posts",
-            description = "Retrieve a paginated list of published posts with optional category and tag filtering",
+            description =
+                    "Retrieve a paginated list of published posts. Category, tags, author and creation date filters"
+                            + " are optional and combined in one query",
             parameters = {
                 @Parameter(
                         name = "page",
@@ -49,7 +76,29 @@ public class PostController {
                         description = "Sort direction (ASC or DESC)",
                         schema = @Schema(allowableValues = {"ASC", "DESC"})),
                 @Parameter(name = "categoryId", description = "Optional category ID to filter by"),
-                @Parameter(name = "tag", description = "Optional tag to filter by"),
+                @Parameter(
+                        name = "tag",
+                        description = "Optional tag to filter by, repeat for several tags (at most 10)"),
+                @Parameter(
+                        name = "tagMatch",
+                        description = "Whether posts need ANY or ALL of the given tags",
+                        schema =
+                                @Schema(
+                                        allowableValues = {"ANY", "ALL"},
+                                        defaultValue = "ANY")),
+                @Parameter(name = "authorId", description = "Optional author ID to filter by"),
+                @Parameter(
+                        name = "createdFrom",
+                        description = "Optional inclusive lower bound of the creation time",
+                        example = "2024-01-01T00:00:00"),
+                @Parameter(
+                        name = "createdTo",
+                        description = "Optional exclusive upper bound of the creation time",
+                        example = "2025-01-01T00:00:00"),
+                @Parameter(
+                        name = "includeTotal",
+                        description = "Whether to count totalElements and totalPages, false skips the count query",
+                        schema = @Schema(defaultValue = "true"))
             },
             responses = {
                 @ApiResponse(
@@ -68,13 +117,125 @@ public class PostController {
             @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(name = "sortDirection", required = false, defaultValue = "ASC") String sortDirection,
             @RequestParam(required = false) UUID categoryId,
-            @RequestParam(required = false) String tag) {
+            @RequestParam(name = "tag", required = false) @Size(max = 10) Set<String> tags,
+            @RequestParam(name = "tagMatch", required = false, defaultValue = "ANY") TagMatch tagMatch,
+            @RequestParam(required = false) UUID authorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                    LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(name = "includeTotal", required = false, defaultValue = "true") boolean includeTotal) {
         postService.validateSortParams(sortBy, sortDirection);
         Sort sort = sortDirection.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
         PageRequest pageable = PageRequest.of(page, size, sort);
-        return postService.getPublishedPosts(categoryId, tag, pageable);
+        PostFilter filter = new PostFilter(categoryId, tags, tagMatch, authorId, createdFrom, createdTo);
+        return postService.getPublishedPosts(filter, pageable, includeTotal);
+    }
+
+    @Operation(
+            summary = "Get published posts by cursor",
+            description = "Retrieve published posts using keyset pagination, which stays fast on deep pages",
+            parameters = {
+                @Parameter(
+                        name = "cursor",
+                        description =
+                                "Opaque cursor returned as nextCursor by the previous page, omit for the first page"),
+                @Parameter(
+                        name = "size",
+                        description = "Page size",
+                        schema = @Schema(defaultValue = "20", minimum = "1", maximum = "100")),
+                @Parameter(
+                        name = "sortBy",
+                        description = "Field to sort by",
+                        schema = @Schema(allowableValues = {"createdAt", "title"})),
+                @Parameter(
+                        name = "sortDirection",
+                        description = "Sort direction (ASC or DESC)",
+                        schema = @Schema(allowableValues = {"ASC", "DESC"})),
+            },
+            responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successful retrieval",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = CursorPageResponse.class)))
+            })
+    @GetMapping("/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageResponse<PostResponse> getPublishedPostsByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(name = "sortDirection", required = false, defaultValue = "ASC") String sortDirection) {
+        postService.validateSortParams(sortBy, sortDirection);
+        return postService.getPublishedPostsByCursor(cursor, size, sortBy, sortDirection);
+    }
+
+    @Operation(
+            summary = "Search published posts",
+            description =
+                    "Full-text search over published post titles and content, ranked by relevance with title matches"
+                            + " weighted higher. Supports quoted phrases, OR and -excluded words",
+            parameters = {
+                @Parameter(name = "q", description = "Search terms", required = true, example = "spring boot"),
+                @Parameter(
+                        name = "cursor",
+                        description =
+                                "Opaque cursor returned as nextCursor by the previous page, omit for the first page"),
+                @Parameter(
+                        name = "size",
+                        description = "Page size",
+                        schema = @Schema(defaultValue = "20", minimum = "1", maximum = "100")),
+            },
+            responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successful search",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = CursorPageResponse.class)))
+            })
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageResponse<PostSearchResult> searchPublishedPosts(
+            @RequestParam(name = "q") @NotBlank @Size(max = 200) String query,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20") @Min(1) @Max(100) int size) {
+        return postService.searchPublishedPosts(query, cursor, size);
+    }
+
+    @Operation(
+            summary = "Suggest published posts",
+            description =
+                    "Typeahead over published posts whose title, category or tags contain words starting with every"
+                            + " typed word. Posts changed since the last index rebuild come first, most recent first, then the"
+                            + " rest newest created first. Served from an in-memory index",
+            parameters = {
+                @Parameter(name = "q", description = "Typed words", required = true, example = "spr bo"),
+                @Parameter(
+                        name = "size",
+                        description = "Maximum number of suggestions",
+                        schema = @Schema(defaultValue = "10", minimum = "1", maximum = "50")),
+            },
+            responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Successful retrieval",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        array = @ArraySchema(schema = @Schema(implementation = PostSuggestion.class))))
+            })
+    @GetMapping("/suggest")
+    @ResponseStatus(HttpStatus.OK)
+    public List<PostSuggestion> suggestPublishedPosts(
+            @RequestParam(name = "q") @NotBlank @Size(max = 200) String query,
+            @RequestParam(name = "size", required = false, defaultValue = "10") @Min(1) @Max(50) int size) {
+        return postSuggestionService.suggest(query, size);
     }
 
     @Operation(
@@ -114,7 +275,11 @@ public class PostController {
                         name = "sortDirection",
                         description = "Sort direction (ASC or DESC)",
                         schema = @Schema(allowableValues = {"ASC", "DESC"})),
-                @Parameter(name = "status", description = "Optional status to filter by")
+                @Parameter(name = "status", description = "Optional status to filter by"),
+                @Parameter(
+                        name = "includeTotal",
+                        description = "Whether to count totalElements and totalPages, false skips the count query",
+                        schema = @Schema(defaultValue = "true"))
             },
             responses = {
                 @ApiResponse(
@@ -133,13 +298,14 @@ public class PostController {
             @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(name = "sortDirection", required = false, defaultValue = "ASC") String sortDirection,
             @RequestParam(name = "status", required = false) PostStatus status,
-            @AuthenticationPrincipal SecurityUser user) {
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam(name = "includeTotal", required = false, defaultValue = "true") boolean includeTotal) {
         postService.validateSortParams(sortBy, sortDirection);
         Sort sort = sortDirection.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
         PageRequest pageable = PageRequest.of(page, size, sort);
-        return postService.getMyPosts(user.getUsername(), status, pageable);
+        return postService.getMyPosts(user.getUsername(), status, pageable, includeTotal);
     }
 
     @Operation(
@@ -161,6 +327,55 @@ public class PostController {
         return postService.createPost(user.getUsername(), request);
     }
 
+    @Operation(
+            summary = "Bulk import posts",
+            description =
+                    "Stream posts as NDJSON, one create post request per line. Lines are validated like single post"
+                            + " creation and saved in chunks; the response streams one result per line as NDJSON",
+            responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Import processed, see the per-line results",
+                        content =
+                                @Content(
+                                        mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                        schema = @Schema(implementation = PostImportResult.class)))
+            })
+    @PostMapping(
+            value = "/import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void importPosts(
+            HttpServletRequest request, HttpServletResponse response, @AuthenticationPrincipal SecurityUser user)
+            throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        postImportService.importPosts(user.getUsername(), request.getInputStream(), response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "Export published posts",
+            description =
+                    "Stream every published post with its tags and approved comments as NDJSON, one post per line,"
+                            + " read from a single consistent database snapshot",
+            responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Export streamed successfully",
+                        content =
+                                @Content(
+                                        mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                        schema = @Schema(implementation = PostExport.class)))
+            })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportPosts(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        postExportService.exportPublishedPosts(response.getOutputStream());
+    }
+
     @Operation(
             summary = "Update a post",
             description = "Update an existing post by its ID",
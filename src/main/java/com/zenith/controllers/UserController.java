@@ -53,6 +53,10 @@ public class UserController {
                         description = "Sort direction (ASC or DESC)",
                         schema = @Schema(allowableValues = {"ASC", "DESC"})),
                 @Parameter(name = "role", description = "Optional role to filter by"),
+                @Parameter(
+                        name = "includeTotal",
+                        description = "Whether to count totalElements and totalPages, false skips the count query",
+                        schema = @Schema(defaultValue = "true"))
             },
             responses = {
                 @ApiResponse(
@@ -70,13 +74,14 @@ public class UserController {
             @RequestParam(name = "size", required = false, defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(name = "sortDirection", required = false, defaultValue = "ASC") String sortDirection,
-            @RequestParam(required = false) RoleType role) {
+            @RequestParam(required = false) RoleType role,
+            @RequestParam(name = "includeTotal", required = false, defaultValue = "true") boolean includeTotal) {
         userService.validateSortParams(sortBy, sortDirection);
         Sort sort = sortDirection.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
         PageRequest pageable = PageRequest.of(page, size, sort);
-        return userService.getAllUsers(role, pageable);
+        return userService.getAllUsers(role, pageable, includeTotal);
     }
 
     @Operation(
@@ -0,0 +1,28 @@
+package com.zenith.dtos.requests;
+
+import com.zenith.enums.TagMatch;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Optional filters over published posts, combined with AND. {@code tagMatch} decides whether a post needs any or all
+ * of {@code tags}; {@code createdFrom} is inclusive and {@code createdTo} exclusive.
+ */
+public record PostFilter(
+        UUID categoryId,
+        Set<String> tags,
+        TagMatch tagMatch,
+        UUID authorId,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo) {
+
+    public PostFilter {
+        tags = tags != null ? tags : Set.of();
+        tagMatch = tagMatch != null ? tagMatch : TagMatch.ANY;
+    }
+
+    public static PostFilter none() {
+        return new PostFilter(null, null, null, null, null, null);
+    }
+}
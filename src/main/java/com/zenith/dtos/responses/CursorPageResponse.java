@@ -0,0 +1,25 @@
+package com.zenith.dtos.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cursor paginated response object")
+public class CursorPageResponse<T> {
+    @Schema(description = "Maximum number of items per page", example = "20")
+    private int pageSize;
+
+    @Schema(description = "Whether another page follows this one", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque cursor to pass as the cursor parameter for the next page, null on the last page")
+    private String nextCursor;
+
+    @Schema(description = "List of items in the current page")
+    private List<T> content;
+}
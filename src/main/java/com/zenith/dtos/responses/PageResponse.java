@@ -1,8 +1,11 @@
 package com.zenith.dtos.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import lombok.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Getter
 @Setter
@@ -17,12 +20,44 @@ public class PageResponse<T> {
     @Schema(description = "Number of items per page", example = "10")
     private int pageSize;
 
-    @Schema(description = "Total number of items", example = "100")
-    private long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Total number of items, omitted when includeTotal is false", example = "100")
+    private Long totalElements;
 
-    @Schema(description = "Total number of pages", example = "10")
-    private int totalPages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Total number of pages, omitted when includeTotal is false", example = "10")
+    private Integer totalPages;
+
+    @Schema(description = "Whether another page follows this one", example = "true")
+    private boolean hasNext;
 
     @Schema(description = "List of items in the current page")
     private List<T> content;
+
+    public PageResponse(int pageNumber, int pageSize, long totalElements, int totalPages, List<T> content) {
+        this(pageNumber, pageSize, totalElements, totalPages, pageNumber + 1 < totalPages, content);
+    }
+
+    public static <T> PageResponse<T> of(Slice<?> slice, List<T> content) {
+        if (slice instanceof Page<?> page) {
+            return new PageResponse<>(
+                    page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages(), content);
+        }
+        return PageResponse.<T>builder()
+                .pageNumber(slice.getNumber())
+                .pageSize(slice.getSize())
+                .hasNext(slice.hasNext())
+                .content(content)
+                .build();
+    }
+
+    public static <T> PageResponse<T> of(Slice<?> slice, long totalElements, List<T> content) {
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) totalElements / slice.getSize());
+        return new PageResponse<>(
+                slice.getNumber(), slice.getSize(), totalElements, totalPages, slice.hasNext(), content);
+    }
+
+    public <R> PageResponse<R> withContent(List<R> content) {
+        return new PageResponse<>(pageNumber, pageSize, totalElements, totalPages, hasNext, content);
+    }
 }
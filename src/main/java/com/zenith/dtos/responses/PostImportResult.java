@@ -0,0 +1,23 @@
+package com.zenith.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.zenith.enums.ImportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Outcome of one NDJSON line of a bulk post import")
+public record PostImportResult(
+        @Schema(description = "1-based line number in the request body", example = "42") int line,
+        @Schema(description = "Whether the post was created", example = "CREATED") ImportStatus status,
+        @Schema(description = "ID of the created post", example = "123e4567-e89b-12d3-a456-426614174000") UUID postId,
+        @Schema(description = "Reason the line was rejected", example = "Category not found") String error) {
+
+    public static PostImportResult created(int line, UUID postId) {
+        return new PostImportResult(line, ImportStatus.CREATED, postId, null);
+    }
+
+    public static PostImportResult failed(int line, String error) {
+        return new PostImportResult(line, ImportStatus.FAILED, null, error);
+    }
+}
@@ -0,0 +1,19 @@
+package com.zenith.dtos.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Published post matching a full-text search")
+public record PostSearchResult(
+        @Schema(description = "ID of the post", example = "123e4567-e89b-12d3-a456-426614174000") UUID postId,
+        @Schema(description = "Title of the post", example = "Getting Started with Spring Boot") String title,
+        @Schema(
+                        description = "Content fragments around the matches, with matched words wrapped in <mark> tags",
+                        example = "Learn how to build a <mark>Spring</mark> Boot application")
+                String snippet,
+        @Schema(description = "Relevance score, higher is better; title matches weigh more", example = "0.6079271")
+                float rank,
+        @Schema(description = "ID of the author", example = "123e4567-e89b-12d3-a456-426614174000") UUID authorId,
+        @Schema(description = "ID of the category", example = "123e4567-e89b-12d3-a456-426614174000") UUID categoryId,
+        @Schema(description = "Creation timestamp", example = "2023-01-01T00:00:00") LocalDateTime createdAt) {}
@@ -0,0 +1,9 @@
+package com.zenith.dtos.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+@Schema(description = "Published post whose title, category or tags start with the typed words")
+public record PostSuggestion(
+        @Schema(description = "ID of the post", example = "123e4567-e89b-12d3-a456-426614174000") UUID postId,
+        @Schema(description = "Title of the post", example = "Getting Started with Spring Boot") String title) {}
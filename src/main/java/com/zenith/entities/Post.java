@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Setter
@@ -18,7 +19,10 @@ import lombok.*;
         name = "posts",
         indexes = {
             @Index(name = "idx_post_author_id", columnList = "author_id"),
-            @Index(name = "idx_post_status", columnList = "status")
+            @Index(name = "idx_post_status", columnList = "status"),
+            @Index(name = "idx_post_status_created_at_id", columnList = "status, created_at, id"),
+            @Index(name = "idx_post_status_title_id", columnList = "status, title, id"),
+            @Index(name = "idx_post_status_category_id_created_at", columnList = "status, category_id, created_at")
         })
 public class Post extends BaseEntity {
 
@@ -46,10 +50,17 @@ public class Post extends BaseEntity {
     @JoinTable(
             name = "post_tags",
             joinColumns = @JoinColumn(name = "post_id"),
-            inverseJoinColumns = @JoinColumn(name = "tag_id"))
+            inverseJoinColumns = @JoinColumn(name = "tag_id"),
+            indexes = @Index(name = "idx_post_tags_tag_id_post_id", columnList = "tag_id, post_id"))
     private Set<Tag> tags = new HashSet<>();
 
     @Builder.Default
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
+
+    // maintained by PostRepository.adjustCommentCount, never written through the entity
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int commentCount = 0;
 }
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Setter
@@ -48,6 +49,23 @@ public class User extends BaseEntity {
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
+    // maintained by UserRepository.adjustPostCount / adjustCommentCount, never written through the entity
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int postCount = 0;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int commentCount = 0;
+
+    // bumped whenever issued tokens must stop carrying this user's claims (role change, deletion)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int tokenVersion = 0;
+
     public boolean isAdmin() {
         return role == RoleType.ADMIN;
     }
@@ -0,0 +1,6 @@
+package com.zenith.enums;
+
+public enum ImportStatus {
+    CREATED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.zenith.enums;
+
+public enum TagMatch {
+    ANY,
+    ALL
+}
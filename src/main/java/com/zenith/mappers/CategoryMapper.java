@@ -3,11 +3,8 @@ package com.zenith.mappers;
 import com.zenith.dtos.requests.CategoryRequest;
 import com.zenith.dtos.responses.CategoryResponse;
 import com.zenith.entities.Category;
-import com.zenith.entities.Post;
-import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.Named;
 
 @Mapper(componentModel = "spring")
 public interface CategoryMapper {
@@ -16,11 +13,6 @@ public interface CategoryMapper {
     Category toEntity(CategoryRequest request);
 
     @Mapping(source = "id", target = "categoryId")
-    @Mapping(source = "posts", target = "postCount", qualifiedByName = "postCount")
+    @Mapping(target = "postCount", ignore = true)
     CategoryResponse toResponse(Category category);
-
-    @Named("postCount")
-    default int postCount(List<Post> posts) {
-        return posts != null ? posts.size() : 0;
-    }
 }
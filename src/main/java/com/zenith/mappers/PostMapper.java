@@ -1,10 +1,13 @@
 package com.zenith.mappers;
 
 import com.zenith.dtos.requests.CreatePostRequest;
+import com.zenith.dtos.responses.CommentResponse;
+import com.zenith.dtos.responses.PostExport;
 import com.zenith.dtos.responses.PostResponse;
-import com.zenith.entities.Comment;
+import com.zenith.dtos.responses.PostSearchResult;
 import com.zenith.entities.Post;
 import com.zenith.entities.Tag;
+import com.zenith.repositories.projections.PostSearchHit;
 import java.util.List;
 import java.util.Set;
 import org.mapstruct.Mapper;
@@ -19,22 +22,31 @@ public interface PostMapper {
     @Mapping(target = "category", ignore = true)
     @Mapping(target = "tags", ignore = true)
     @Mapping(target = "comments", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
     Post toEntity(CreatePostRequest request);
 
     @Mapping(source = "id", target = "postId")
     @Mapping(source = "author.id", target = "authorId")
     @Mapping(source = "category.id", target = "categoryId")
     @Mapping(source = "tags", target = "tagCount", qualifiedByName = "tagCount")
-    @Mapping(source = "comments", target = "commentCount", qualifiedByName = "commentCount")
     PostResponse toResponse(Post post);
 
+    @Mapping(source = "post.id", target = "postId")
+    @Mapping(source = "post.author.id", target = "authorId")
+    @Mapping(source = "post.category.id", target = "categoryId")
+    PostResponse toResponse(Post post, int tagCount);
+
+    @Mapping(source = "post.id", target = "postId")
+    @Mapping(source = "post.author.id", target = "authorId")
+    @Mapping(source = "post.category.id", target = "categoryId")
+    @Mapping(source = "tagNames", target = "tags")
+    @Mapping(source = "approvedComments", target = "comments")
+    PostExport toExport(Post post, Set<String> tagNames, List<CommentResponse> approvedComments);
+
+    PostSearchResult toSearchResult(PostSearchHit hit);
+
     @Named("tagCount")
     default int tagCount(Set<Tag> tags) {
         return tags != null ? tags.size() : 0;
     }
-
-    @Named("commentCount")
-    default int commentCount(List<Comment> comments) {
-        return comments != null ? comments.size() : 0;
-    }
 }
@@ -2,12 +2,9 @@ package com.zenith.mappers;
 
 import com.zenith.dtos.requests.TagRequest;
 import com.zenith.dtos.responses.TagResponse;
-import com.zenith.entities.Post;
 import com.zenith.entities.Tag;
-import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.Named;
 
 @Mapper(componentModel = "spring")
 public interface TagMapper {
@@ -16,11 +13,6 @@ public interface TagMapper {
     Tag toEntity(TagRequest request);
 
     @Mapping(source = "id", target = "tagId")
-    @Mapping(source = "posts", target = "postCount", qualifiedByName = "postCount")
+    @Mapping(target = "postCount", ignore = true)
     TagResponse toResponse(Tag tag);
-
-    @Named("postCount")
-    default int postCount(List<Post> posts) {
-        return posts != null ? posts.size() : 0;
-    }
 }
@@ -0,0 +1,88 @@
+package com.zenith.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL statements, JDBC time and rows read within a scope, usually one HTTP request, as recorded by
+ * {@link QueryStatsDataSource}. A scope is bound to the thread that opened it, so work handed to other threads, like a
+ * streamed export, is not counted. Scopes nest: closing one adds its numbers to the enclosing scope.
+ */
+public final class QueryStats implements AutoCloseable {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryStats parent;
+    private final List<String> sql;
+    private int statements;
+    private long jdbcNanos;
+    private long rows;
+
+    private QueryStats(QueryStats parent, boolean captureSql) {
+        this.parent = parent;
+        this.sql = captureSql || (parent != null && parent.sql != null) ? new ArrayList<>() : null;
+    }
+
+    public static QueryStats start() {
+        return start(false);
+    }
+
+    /** Opens a scope on the current thread; with {@code captureSql} the text of every statement is kept as well. */
+    public static QueryStats start(boolean captureSql) {
+        QueryStats stats = new QueryStats(CURRENT.get(), captureSql);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public void close() {
+        if (parent == null) {
+            CURRENT.remove();
+            return;
+        }
+        parent.statements += statements;
+        parent.jdbcNanos += jdbcNanos;
+        parent.rows += rows;
+        if (parent.sql != null) {
+            parent.sql.addAll(sql);
+        }
+        CURRENT.set(parent);
+    }
+
+    void recordStatement(String statement, long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+        if (sql != null) {
+            sql.add(statement);
+        }
+    }
+
+    void recordFetch(boolean row, long nanos) {
+        jdbcNanos += nanos;
+        if (row) {
+            rows++;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public Duration jdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    /** The statements run so far, or an empty list when the scope was not started with {@code captureSql}. */
+    public List<String> sql() {
+        return sql == null ? List.of() : List.copyOf(sql);
+    }
+}
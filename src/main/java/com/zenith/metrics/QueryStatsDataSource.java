@@ -0,0 +1,100 @@
+package com.zenith.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts statements, JDBC time and fetched rows into the thread's open {@link QueryStats} scope. Connections, statements
+ * and result sets are wrapped in JDK proxies. A statement counts once per execute call, so a JDBC batch is one
+ * statement. JDBC time covers executing and iterating the results. Sits below Hibernate and JdbcTemplate alike, and
+ * costs one thread-local read per call when no scope is open.
+ */
+public class QueryStatsDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public QueryStatsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection(), null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password), null);
+    }
+
+    // the wrapped pool is closed through this bean on shutdown
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target, String sql) {
+        return type.cast(Proxy.newProxyInstance(
+                QueryStatsDataSource.class.getClassLoader(), new Class<?>[] {type}, new Handler(target, sql)));
+    }
+
+    private record Handler(Object target, String sql) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+
+            QueryStats stats = QueryStats.current();
+            boolean execute = target instanceof Statement && EXECUTE_METHODS.contains(name);
+            boolean fetch = target instanceof ResultSet && name.equals("next");
+            long started = stats != null && (execute || fetch) ? System.nanoTime() : 0;
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            if (stats != null && execute) {
+                String statement = sql != null ? sql : args != null && args.length > 0 ? (String) args[0] : null;
+                stats.recordStatement(statement, System.nanoTime() - started);
+            } else if (stats != null && fetch) {
+                stats.recordFetch((Boolean) result, System.nanoTime() - started);
+            }
+            return wrap(name, args, result);
+        }
+
+        private Object wrap(String name, Object[] args, Object result) {
+            return switch (result) {
+                case CallableStatement statement
+                when name.equals("prepareCall") -> proxy(CallableStatement.class, statement, (String) args[0]);
+                case PreparedStatement statement
+                when name.equals("prepareStatement") -> proxy(PreparedStatement.class, statement, (String) args[0]);
+                case Statement statement when name.equals("createStatement") -> proxy(Statement.class, statement, null);
+                case ResultSet resultSet when target instanceof Statement -> proxy(ResultSet.class, resultSet, null);
+                case null, default -> result;
+            };
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.zenith.metrics;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/** Wraps every data source bean in a {@link QueryStatsDataSource} once it is fully configured. */
+public class QueryStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof QueryStatsDataSource)) {
+            return new QueryStatsDataSource(dataSource);
+        }
+        return bean;
+    }
+}
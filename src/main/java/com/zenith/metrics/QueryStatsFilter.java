@@ -0,0 +1,134 @@
+package com.zenith.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Opens a {@link QueryStats} scope per request and records the statement count, JDBC time and rows read under the
+ * controller method that handled it. Optionally reports the same numbers to the client in a {@code Server-Timing}
+ * header, added just before the response is committed, after the handler has run its queries.
+ */
+@RequiredArgsConstructor
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean serverTiming;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.start();
+        ServerTimingResponse timedResponse = serverTiming ? new ServerTimingResponse(response, stats) : null;
+        try {
+            filterChain.doFilter(request, timedResponse != null ? timedResponse : response);
+        } finally {
+            stats.close();
+            if (timedResponse != null) {
+                timedResponse.addServerTiming();
+            }
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE)
+                instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        Tags tags = Tags.of(
+                "controller", handlerMethod.getBeanType().getSimpleName(),
+                "method", handlerMethod.getMethod().getName());
+        DistributionSummary.builder("request.sql.statements")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("request.sql.rows")
+                .baseUnit("rows")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.rows());
+        Timer.builder("request.sql.time").tags(tags).register(meterRegistry).record(stats.jdbcTime());
+    }
+
+    static String serverTiming(QueryStats stats) {
+        return String.format(
+                Locale.ROOT,
+                "sql;dur=%.2f;desc=\"statements: %d, rows: %d\"",
+                stats.jdbcTime().toNanos() / 1e6,
+                stats.statements(),
+                stats.rows());
+    }
+
+    /** Adds the header the first time the handler starts writing, or at the end for responses without a body. */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final QueryStats stats;
+        private boolean added;
+
+        private ServerTimingResponse(HttpServletResponse response, QueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void addServerTiming() {
+            if (!added && !isCommitted()) {
+                added = true;
+                addHeader(SERVER_TIMING, serverTiming(stats));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.zenith.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Times every public method of the beans in {@code com.zenith.services} as {@code service.method}, tagged with the
+ * service, the method and the simple name of the exception it threw, or {@code none}. Only calls through the bean proxy
+ * are timed, so a service calling its own methods records the outer call alone. Percentiles and SLO buckets are set
+ * under {@code management.metrics.distribution}.
+ */
+@Aspect
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String METRIC = "service.method";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(com.zenith.services..*) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
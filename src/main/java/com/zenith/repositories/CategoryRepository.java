@@ -1,9 +1,22 @@
 package com.zenith.repositories;
 
 import com.zenith.entities.Category;
+import com.zenith.repositories.projections.PostCountRow;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
+    Slice<Category> findAllBy(Pageable pageable);
+
     boolean existsByNameIgnoreCase(String name);
+
+    // categories without posts have no row
+    @Query("SELECT p.category.id AS id, COUNT(p) AS postCount FROM Post p WHERE p.category.id IN :categoryIds"
+            + " GROUP BY p.category.id")
+    List<PostCountRow> countPostsByIdIn(Collection<UUID> categoryIds);
 }
@@ -2,25 +2,88 @@ package com.zenith.repositories;
 
 import com.zenith.entities.Comment;
 import com.zenith.enums.CommentStatus;
+import com.zenith.repositories.projections.CommentStatusCount;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
     Page<Comment> findByPostIdAndStatus(UUID postId, CommentStatus status, Pageable pageable);
 
+    Slice<Comment> findSliceByPostIdAndStatus(UUID postId, CommentStatus status, Pageable pageable);
+
     Page<Comment> findByStatus(CommentStatus status, Pageable pageable);
 
+    Slice<Comment> findSliceByStatus(CommentStatus status, Pageable pageable);
+
+    long countByStatus(CommentStatus status);
+
+    @Query(
+            value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = to_regclass('comments')",
+            nativeQuery = true)
+    long estimateRowCount();
+
+    // planner statistics, null when the status is not among the most common values
+    @Query(
+            value =
+                    """
+            SELECT CAST(c.reltuples * s.most_common_freqs[
+                       array_position(CAST(CAST(s.most_common_vals AS text) AS text[]), :status)] AS bigint)
+            FROM pg_class c JOIN pg_stats s ON s.schemaname = current_schema() AND s.tablename = c.relname
+            WHERE c.oid = to_regclass('comments') AND s.attname = 'status'
+            """,
+            nativeQuery = true)
+    Long estimateCountByStatus(String status);
+
+    // ordered like PostRepository.streamPublished so the export can merge both cursors
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+            """
+            SELECT c FROM Comment c WHERE c.status = 'APPROVED' AND c.post.status = 'PUBLISHED'
+            ORDER BY c.post.id, c.createdAt, c.id
+            """)
+    Stream<Comment> streamApprovedOfPublishedPosts();
+
+    // rows already locked by another cleanup run are skipped rather than waited on
+    @Query(
+            value =
+                    """
+            SELECT id FROM comments WHERE status = 'ARCHIVED' AND updated_at < :cutoffDate
+            LIMIT :limit FOR UPDATE SKIP LOCKED
+            """,
+            nativeQuery = true)
+    List<UUID> lockArchivedIdsOlderThan(LocalDateTime cutoffDate, int limit);
+
+    @Query("SELECT c.status AS status, COUNT(c) AS count FROM Comment c WHERE c.post.id IN :postIds GROUP BY c.status")
+    List<CommentStatusCount> countByPostIdInGroupByStatus(Collection<UUID> postIds);
+
+    // the user's own comments and every comment on the user's posts
+    @Query(
+            """
+            SELECT c.status AS status, COUNT(c) AS count FROM Comment c
+            WHERE c.author.id = :userId OR c.post.author.id = :userId GROUP BY c.status
+            """)
+    List<CommentStatusCount> countByAuthorOrPostAuthorGroupByStatus(UUID userId);
+
     @Modifying
-    @Query("DELETE FROM Comment c WHERE c.status = 'ARCHIVED' AND c.updatedAt < :cutoffDate")
-    Long deleteArchivedCommentsOlderThan(LocalDateTime cutoffDate);
+    @Query("DELETE FROM Comment c WHERE c.id IN :commentIds")
+    int deleteByIdIn(Collection<UUID> commentIds);
 
-    default Long deleteArchivedCommentsOlderThan(Integer days) {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(days);
-        return deleteArchivedCommentsOlderThan(cutoffDate);
-    }
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id IN :postIds")
+    int deleteByPostIdIn(Collection<UUID> postIds);
 }
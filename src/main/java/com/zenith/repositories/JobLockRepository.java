@@ -0,0 +1,44 @@
+package com.zenith.repositories;
+
+import com.zenith.entities.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    // takes the lease when the row is missing or its lease has run out, returns 1 when acquired
+    @Modifying
+    @Query(
+            value =
+                    """
+            INSERT INTO job_locks (name, locked_by, locked_at, locked_until)
+            VALUES (:name, :owner, LOCALTIMESTAMP, LOCALTIMESTAMP + make_interval(secs => :leaseSeconds))
+            ON CONFLICT (name) DO UPDATE
+            SET locked_by = EXCLUDED.locked_by, locked_at = EXCLUDED.locked_at, locked_until = EXCLUDED.locked_until
+            WHERE job_locks.locked_until <= LOCALTIMESTAMP
+            """,
+            nativeQuery = true)
+    int tryAcquire(String name, String owner, double leaseSeconds);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE job_locks SET locked_until = LOCALTIMESTAMP + make_interval(secs => :leaseSeconds)
+            WHERE name = :name AND locked_by = :owner
+            """,
+            nativeQuery = true)
+    int extend(String name, String owner, double leaseSeconds);
+
+    // keeps the lease until locked_at + minHold so replicas whose trigger fires slightly later skip the run
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE job_locks SET locked_until = GREATEST(LOCALTIMESTAMP, locked_at + make_interval(secs => :minHoldSeconds))
+            WHERE name = :name AND locked_by = :owner
+            """,
+            nativeQuery = true)
+    int release(String name, String owner, double minHoldSeconds);
+}
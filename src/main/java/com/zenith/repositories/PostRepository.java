@@ -2,34 +2,209 @@ package com.zenith.repositories;
 
 import com.zenith.entities.Post;
 import com.zenith.enums.PostStatus;
+import com.zenith.repositories.projections.PostCounts;
+import com.zenith.repositories.projections.PostSearchHit;
+import com.zenith.repositories.projections.PostStatusCount;
+import com.zenith.repositories.projections.PostSuggestionRow;
+import com.zenith.repositories.projections.PostTagName;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface PostRepository extends JpaRepository<Post, UUID> {
+public interface PostRepository extends JpaRepository<Post, UUID>, JpaSpecificationExecutor<Post> {
     Page<Post> findByAuthorId(UUID authorId, Pageable pageable);
 
-    Page<Post> findByAuthorIdAndStatus(UUID authorId, PostStatus status, Pageable pageable);
+    Slice<Post> findSliceByAuthorId(UUID authorId, Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p WHERE p.author.id = :authorId")
+    List<UUID> findIdsByAuthorId(UUID authorId);
 
-    Page<Post> findByCategoryId(UUID categoryId, Pageable pageable);
+    @Query("SELECT p.status AS status, COUNT(p) AS count FROM Post p WHERE p.author.id = :authorId GROUP BY p.status")
+    List<PostStatusCount> countByAuthorIdGroupByStatus(UUID authorId);
+
+    Page<Post> findByAuthorIdAndStatus(UUID authorId, PostStatus status, Pageable pageable);
 
-    Page<Post> findByTagsName(String tagName, Pageable pageable);
+    Slice<Post> findSliceByAuthorIdAndStatus(UUID authorId, PostStatus status, Pageable pageable);
 
     Page<Post> findByStatus(PostStatus status, Pageable pageable);
 
+    Slice<Post> findSliceByStatus(PostStatus status, Pageable pageable);
+
+    long countByStatus(PostStatus status);
+
+    @Query(
+            value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = to_regclass('posts')",
+            nativeQuery = true)
+    long estimateRowCount();
+
+    // planner statistics, null when the status is not among the most common values
+    @Query(
+            value =
+                    """
+            SELECT CAST(c.reltuples * s.most_common_freqs[
+                       array_position(CAST(CAST(s.most_common_vals AS text) AS text[]), :status)] AS bigint)
+            FROM pg_class c JOIN pg_stats s ON s.schemaname = current_schema() AND s.tablename = c.relname
+            WHERE c.oid = to_regclass('posts') AND s.attname = 'status'
+            """,
+            nativeQuery = true)
+    Long estimateCountByStatus(String status);
+
     @Query("SELECT p FROM Post p WHERE p.status = 'PUBLISHED'")
-    Page<Post> findPublished(Pageable pageable);
+    List<Post> findPublished(Sort sort, Limit limit);
+
+    @Query(
+            """
+            SELECT p FROM Post p WHERE p.status = 'PUBLISHED' AND (p.createdAt, p.id) > (:createdAt, :id)
+            ORDER BY p.createdAt ASC, p.id ASC
+            """)
+    List<Post> findPublishedAfterCreatedAt(LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query(
+            """
+            SELECT p FROM Post p WHERE p.status = 'PUBLISHED' AND (p.createdAt, p.id) < (:createdAt, :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Post> findPublishedBeforeCreatedAt(LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query(
+            """
+            SELECT p FROM Post p WHERE p.status = 'PUBLISHED' AND (p.title, p.id) > (:title, :id)
+            ORDER BY p.title ASC, p.id ASC
+            """)
+    List<Post> findPublishedAfterTitle(String title, UUID id, Limit limit);
+
+    @Query(
+            """
+            SELECT p FROM Post p WHERE p.status = 'PUBLISHED' AND (p.title, p.id) < (:title, :id)
+            ORDER BY p.title DESC, p.id DESC
+            """)
+    List<Post> findPublishedBeforeTitle(String title, UUID id, Limit limit);
+
+    // server-side cursor for the NDJSON export, must be consumed inside a transaction
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Post p WHERE p.status = 'PUBLISHED' ORDER BY p.id")
+    Stream<Post> streamPublished();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p.id AS postId, t.name AS name FROM Post p JOIN p.tags t WHERE p.status = 'PUBLISHED' ORDER BY p.id")
+    Stream<PostTagName> streamPublishedTagNames();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p.id AS postId, p.title AS title, c.name AS categoryName FROM Post p JOIN p.category c"
+            + " WHERE p.status = 'PUBLISHED' ORDER BY p.id")
+    Stream<PostSuggestionRow> streamPublishedSuggestionRows();
+
+    // the inner query ranks and limits through the GIN index, snippets are only built for the returned rows
+    @Query(
+            value =
+                    """
+            SELECT p.id AS postId, p.title AS title, p.author_id AS authorId, p.category_id AS categoryId,
+                   p.created_at AS createdAt, r.rank AS rank,
+                   ts_headline('english', p.content, r.query,
+                               'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10') AS snippet
+            FROM (SELECT p2.id, ts_rank(p2.search_vector, q) AS rank, q AS query
+                  FROM posts p2, websearch_to_tsquery('english', :query) q
+                  WHERE p2.status = 'PUBLISHED' AND p2.search_vector @@ q
+                  ORDER BY rank DESC, p2.id DESC
+                  LIMIT :limit) r
+            JOIN posts p ON p.id = r.id
+            ORDER BY r.rank DESC, r.id DESC
+            """,
+            nativeQuery = true)
+    List<PostSearchHit> searchPublished(String query, int limit);
+
+    @Query(
+            value =
+                    """
+            SELECT p.id AS postId, p.title AS title, p.author_id AS authorId, p.category_id AS categoryId,
+                   p.created_at AS createdAt, r.rank AS rank,
+                   ts_headline('english', p.content, r.query,
+                               'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10') AS snippet
+            FROM (SELECT p2.id, ts_rank(p2.search_vector, q) AS rank, q AS query
+                  FROM posts p2, websearch_to_tsquery('english', :query) q
+                  WHERE p2.status = 'PUBLISHED' AND p2.search_vector @@ q
+                    AND (ts_rank(p2.search_vector, q), p2.id) < (CAST(:rank AS real), :id)
+                  ORDER BY rank DESC, p2.id DESC
+                  LIMIT :limit) r
+            JOIN posts p ON p.id = r.id
+            ORDER BY r.rank DESC, r.id DESC
+            """,
+            nativeQuery = true)
+    List<PostSearchHit> searchPublishedAfter(String query, float rank, UUID id, int limit);
+
+    @Query("SELECT p.id AS postId, SIZE(p.tags) AS tagCount FROM Post p WHERE p.id IN :postIds")
+    List<PostCounts> findCountsByIdIn(Collection<UUID> postIds);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    void adjustCommentCount(UUID postId, int delta);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE posts p SET comment_count = c.actual
+            FROM (SELECT p2.id, COUNT(c2.id) AS actual FROM posts p2
+                  LEFT JOIN comments c2 ON c2.post_id = p2.id GROUP BY p2.id) c
+            WHERE p.id = c.id AND p.comment_count <> c.actual
+            """,
+            nativeQuery = true)
+    int reconcileCommentCounts();
+
+    // rows already locked by another cleanup run are skipped rather than waited on
+    @Query(
+            value =
+                    """
+            SELECT id FROM posts WHERE status = 'ARCHIVED' AND updated_at < :cutoffDate
+            LIMIT :limit FOR UPDATE SKIP LOCKED
+            """,
+            nativeQuery = true)
+    List<UUID> lockArchivedIdsOlderThan(LocalDateTime cutoffDate, int limit);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE posts p SET comment_count = p.comment_count - c.removed
+            FROM (SELECT post_id, COUNT(*) AS removed FROM comments WHERE id IN :commentIds GROUP BY post_id) c
+            WHERE p.id = c.post_id
+            """,
+            nativeQuery = true)
+    int decrementCommentCountsForComments(Collection<UUID> commentIds);
 
     @Modifying
-    @Query("DELETE FROM Post p WHERE p.status = 'ARCHIVED' AND p.updatedAt < :cutoffDate")
-    Long deleteArchivedPostsOlderThan(LocalDateTime cutoffDate);
+    @Query(
+            value =
+                    """
+            UPDATE posts p SET comment_count = p.comment_count - c.removed
+            FROM (SELECT post_id, COUNT(*) AS removed FROM comments WHERE author_id = :authorId GROUP BY post_id) c
+            WHERE p.id = c.post_id
+            """,
+            nativeQuery = true)
+    int decrementCommentCountsForCommentAuthor(UUID authorId);
 
-    default Long deleteArchivedPostsOlderThan(Integer days) {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(days);
-        return deleteArchivedPostsOlderThan(cutoffDate);
-    }
+    @Modifying
+    @Query(value = "DELETE FROM post_tags WHERE post_id IN :postIds", nativeQuery = true)
+    int deleteTagLinksByPostIdIn(Collection<UUID> postIds);
+
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.id IN :postIds")
+    int deleteByIdIn(Collection<UUID> postIds);
 }
@@ -1,12 +1,41 @@
 package com.zenith.repositories;
 
 import com.zenith.entities.Tag;
+import com.zenith.repositories.projections.PostCountRow;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface TagRepository extends JpaRepository<Tag, UUID> {
+    Slice<Tag> findAllBy(Pageable pageable);
+
     Optional<Tag> findByNameIgnoreCase(String name);
 
     boolean existsByNameIgnoreCase(String name);
+
+    @Query("SELECT t FROM Tag t WHERE lower(t.name) IN :names")
+    List<Tag> findByLowerNameIn(Collection<String> names);
+
+    // tags without posts have no row
+    @Query("SELECT t.id AS id, COUNT(p) AS postCount FROM Post p JOIN p.tags t WHERE t.id IN :tagIds GROUP BY t.id")
+    List<PostCountRow> countPostsByIdIn(Collection<UUID> tagIds);
+
+    // names created concurrently by another transaction are skipped instead of failing this one
+    @Modifying
+    @Query(
+            value =
+                    """
+            INSERT INTO tags (id, name, created_at, updated_at)
+            SELECT t.id, t.name, LOCALTIMESTAMP, LOCALTIMESTAMP
+            FROM unnest(CAST(:ids AS uuid[]), CAST(:names AS varchar[])) AS t(id, name)
+            ON CONFLICT DO NOTHING
+            """,
+            nativeQuery = true)
+    int insertIgnoringConflicts(UUID[] ids, String[] names);
 }
@@ -2,15 +2,23 @@ package com.zenith.repositories;
 
 import com.zenith.entities.User;
 import com.zenith.enums.RoleType;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     Page<User> findByRole(RoleType role, Pageable pageable);
 
+    Slice<User> findSliceByRole(RoleType role, Pageable pageable);
+
+    Slice<User> findAllBy(Pageable pageable);
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
@@ -18,4 +26,86 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByUsername(String username);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :userId")
+    Optional<Integer> findTokenVersionById(UUID userId);
+
+    @Modifying
+    @Query("UPDATE User u SET u.postCount = u.postCount + :delta WHERE u.id = :userId")
+    void adjustPostCount(UUID userId, int delta);
+
+    @Modifying
+    @Query("UPDATE User u SET u.commentCount = u.commentCount + :delta WHERE u.id = :userId")
+    void adjustCommentCount(UUID userId, int delta);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE users u SET comment_count = u.comment_count - c.removed
+            FROM (SELECT author_id, COUNT(*) AS removed FROM comments
+                  WHERE post_id = :postId GROUP BY author_id) c
+            WHERE u.id = c.author_id
+            """,
+            nativeQuery = true)
+    int decrementCommentCountsForPost(UUID postId);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE users u SET comment_count = u.comment_count - c.removed
+            FROM (SELECT author_id, COUNT(*) AS removed FROM comments
+                  WHERE id IN :commentIds GROUP BY author_id) c
+            WHERE u.id = c.author_id
+            """,
+            nativeQuery = true)
+    int decrementCommentCountsForComments(Collection<UUID> commentIds);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE users u SET comment_count = u.comment_count - c.removed
+            FROM (SELECT author_id, COUNT(*) AS removed FROM comments
+                  WHERE post_id IN :postIds GROUP BY author_id) c
+            WHERE u.id = c.author_id
+            """,
+            nativeQuery = true)
+    int decrementCommentCountsForPosts(Collection<UUID> postIds);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE users u SET post_count = u.post_count - p.removed
+            FROM (SELECT author_id, COUNT(*) AS removed FROM posts WHERE id IN :postIds GROUP BY author_id) p
+            WHERE u.id = p.author_id
+            """,
+            nativeQuery = true)
+    int decrementPostCountsForPosts(Collection<UUID> postIds);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE users u SET post_count = p.actual
+            FROM (SELECT u2.id, COUNT(p2.id) AS actual FROM users u2
+                  LEFT JOIN posts p2 ON p2.author_id = u2.id GROUP BY u2.id) p
+            WHERE u.id = p.id AND u.post_count <> p.actual
+            """,
+            nativeQuery = true)
+    int reconcilePostCounts();
+
+    @Modifying
+    @Query(
+            value =
+                    """
+            UPDATE users u SET comment_count = c.actual
+            FROM (SELECT u2.id, COUNT(c2.id) AS actual FROM users u2
+                  LEFT JOIN comments c2 ON c2.author_id = u2.id GROUP BY u2.id) c
+            WHERE u.id = c.id AND u.comment_count <> c.actual
+            """,
+            nativeQuery = true)
+    int reconcileCommentCounts();
 }
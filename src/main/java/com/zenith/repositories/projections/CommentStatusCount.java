@@ -0,0 +1,9 @@
+package com.zenith.repositories.projections;
+
+import com.zenith.enums.CommentStatus;
+
+public interface CommentStatusCount {
+    CommentStatus getStatus();
+
+    long getCount();
+}
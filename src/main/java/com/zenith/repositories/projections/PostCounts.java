@@ -0,0 +1,9 @@
+package com.zenith.repositories.projections;
+
+import java.util.UUID;
+
+public interface PostCounts {
+    UUID getPostId();
+
+    int getTagCount();
+}
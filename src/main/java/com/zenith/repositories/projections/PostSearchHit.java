@@ -0,0 +1,20 @@
+package com.zenith.repositories.projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface PostSearchHit {
+    UUID getPostId();
+
+    String getTitle();
+
+    String getSnippet();
+
+    float getRank();
+
+    UUID getAuthorId();
+
+    UUID getCategoryId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,9 @@
+package com.zenith.repositories.projections;
+
+import com.zenith.enums.PostStatus;
+
+public interface PostStatusCount {
+    PostStatus getStatus();
+
+    long getCount();
+}
@@ -0,0 +1,11 @@
+package com.zenith.repositories.projections;
+
+import java.util.UUID;
+
+public interface PostSuggestionRow {
+    UUID getPostId();
+
+    String getTitle();
+
+    String getCategoryName();
+}
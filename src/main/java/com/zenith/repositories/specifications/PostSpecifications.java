@@ -0,0 +1,67 @@
+package com.zenith.repositories.specifications;
+
+import com.zenith.entities.Post;
+import com.zenith.entities.Tag;
+import com.zenith.enums.PostStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.domain.Specification;
+
+/** Composable predicates over posts for {@link com.zenith.repositories.PostRepository}. */
+public final class PostSpecifications {
+
+    private PostSpecifications() {}
+
+    public static Specification<Post> published() {
+        return (root, query, cb) -> cb.equal(root.get("status"), PostStatus.PUBLISHED);
+    }
+
+    public static Specification<Post> inCategory(UUID categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Post> byAuthor(UUID authorId) {
+        return (root, query, cb) -> cb.equal(root.get("author").get("id"), authorId);
+    }
+
+    public static Specification<Post> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<Post> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), to);
+    }
+
+    /** Posts linked to at least one of the tags. */
+    public static Specification<Post> taggedWithAny(Collection<UUID> tagIds) {
+        return (root, query, cb) -> tagIds.isEmpty() ? cb.disjunction() : linkedToAny(root, query, cb, tagIds);
+    }
+
+    /** Posts linked to every one of {@code required} tags, of which only {@code tagIds} exist. */
+    public static Specification<Post> taggedWithAll(Collection<UUID> tagIds, int required) {
+        return (root, query, cb) -> {
+            if (tagIds.isEmpty() || tagIds.size() < required) {
+                return cb.disjunction();
+            }
+            return cb.and(tagIds.stream()
+                    .map(tagId -> linkedToAny(root, query, cb, List.of(tagId)))
+                    .toArray(Predicate[]::new));
+        };
+    }
+
+    // EXISTS over post_tags alone, correlated on post_id; the planner runs it as a semi-join on (tag_id, post_id)
+    private static Predicate linkedToAny(
+            Root<Post> root, CriteriaQuery<?> query, CriteriaBuilder cb, Collection<UUID> tagIds) {
+        Subquery<Integer> link = query.subquery(Integer.class);
+        Join<Post, Tag> tag = link.correlate(root).join("tags");
+        return cb.exists(link.select(cb.literal(1)).where(tag.get("id").in(tagIds)));
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,6 +22,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenVersionCache tokenVersionCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Value("${app.jwt.stateless.enabled}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(
@@ -30,7 +37,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
+        final VerifiedToken token;
         final String username;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -38,13 +45,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        jwt = authHeader.substring(7);
-        username = jwtService.extractUsername(jwt);
+        token = verifiedTokenCache.get(authHeader.substring(7), jwtService::verify);
+
+        if (stateless) {
+            authenticateFromClaims(request, token);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        username = token.subject();
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = principalCache.get(username, userDetailsService::loadUserByUsername);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (jwtService.isTokenValid(token, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -53,4 +67,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private void authenticateFromClaims(HttpServletRequest request, VerifiedToken token) {
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            return;
+        }
+        SecurityUser principal = jwtService.extractPrincipal(token);
+
+        if (principal != null && tokenVersionCache.isCurrent(principal.getId(), principal.getTokenVersion())) {
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package com.zenith.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zenith.utils.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(
+            @Value("${app.security.principal-cache.maximum-size}") long maximumSize,
+            @Value("${app.security.principal-cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    public UserDetails get(String subject, Function<String, UserDetails> loader) {
+        return cache.get(subject, loader);
+    }
+
+    public void evict(String subject) {
+        // evicting before commit would let a concurrent request cache the old row again
+        TransactionUtils.afterCommit(() -> cache.invalidate(subject));
+    }
+}
@@ -1,6 +1,7 @@
 package com.zenith.security;
 
 import com.zenith.entities.User;
+import com.zenith.enums.RoleType;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
@@ -16,6 +17,16 @@ public class SecurityUser implements UserDetails {
 
     private final User user;
 
+    public static SecurityUser fromClaims(UUID id, String username, RoleType role, int tokenVersion) {
+        User user = User.builder()
+                .username(username)
+                .role(role)
+                .tokenVersion(tokenVersion)
+                .build();
+        user.setId(id);
+        return new SecurityUser(user);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
@@ -38,4 +49,12 @@ public class SecurityUser implements UserDetails {
     public UUID getId() {
         return user.getId();
     }
+
+    public RoleType getRole() {
+        return user.getRole();
+    }
+
+    public int getTokenVersion() {
+        return user.getTokenVersion();
+    }
 }
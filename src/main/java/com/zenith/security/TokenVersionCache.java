@@ -0,0 +1,45 @@
+package com.zenith.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zenith.repositories.UserRepository;
+import com.zenith.utils.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TokenVersionCache {
+
+    private static final int REVOKED = -1;
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, Integer> cache;
+
+    public TokenVersionCache(
+            UserRepository userRepository,
+            @Value("${app.jwt.stateless.maximum-size}") long maximumSize,
+            @Value("${app.jwt.stateless.version-ttl}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "token-versions");
+    }
+
+    public boolean isCurrent(UUID userId, int tokenVersion) {
+        int current =
+                cache.get(userId, id -> userRepository.findTokenVersionById(id).orElse(REVOKED));
+        return current != REVOKED && current == tokenVersion;
+    }
+
+    public void evict(UUID userId) {
+        TransactionUtils.afterCommit(() -> cache.invalidate(userId));
+    }
+}
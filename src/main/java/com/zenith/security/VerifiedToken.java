@@ -0,0 +1,11 @@
+package com.zenith.security;
+
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+
+public record VerifiedToken(String subject, Instant expiresAt, Claims claims) {
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(Instant.now());
+    }
+}
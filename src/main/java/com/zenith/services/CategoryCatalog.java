@@ -0,0 +1,98 @@
+package com.zenith.services;
+
+import static com.zenith.configs.CacheConfig.CATEGORIES;
+import static com.zenith.configs.CacheConfig.CATEGORY;
+import static com.zenith.configs.CacheConfig.CATEGORY_POST_COUNTS;
+
+import com.zenith.dtos.responses.CategoryResponse;
+import com.zenith.dtos.responses.PageResponse;
+import com.zenith.entities.Category;
+import com.zenith.exceptions.ResourceNotFoundException;
+import com.zenith.mappers.CategoryMapper;
+import com.zenith.repositories.CategoryRepository;
+import com.zenith.repositories.projections.PostCountRow;
+import com.zenith.utils.TransactionUtils;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Cached category reads for {@link CategoryService}. Responses are cached without post counts, so only category writes
+ * evict them. Post counts are cached per category and evicted by the post writes that move them.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryCatalog {
+    private final CategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+    private final CacheManager cacheManager;
+
+    @Cacheable(CATEGORIES)
+    @Transactional(readOnly = true)
+    public PageResponse<CategoryResponse> getAllCategories(Pageable pageable, boolean includeTotal) {
+        Slice<Category> categories =
+                includeTotal ? categoryRepository.findAll(pageable) : categoryRepository.findAllBy(pageable);
+
+        return PageResponse.of(
+                categories, categories.stream().map(categoryMapper::toResponse).toList());
+    }
+
+    @Cacheable(CATEGORY)
+    @Transactional(readOnly = true)
+    public CategoryResponse getCategoryById(UUID categoryId) {
+        return categoryRepository
+                .findById(categoryId)
+                .map(categoryMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+    }
+
+    // cached counts first, then one grouped count for the categories that missed
+    public Map<UUID, Integer> getPostCounts(Collection<UUID> categoryIds) {
+        Cache cache = postCounts();
+        Map<UUID, Integer> postCounts = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID categoryId : categoryIds) {
+            Integer postCount = cache.get(categoryId, Integer.class);
+            if (postCount != null) {
+                postCounts.put(categoryId, postCount);
+            } else {
+                missing.add(categoryId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<UUID, Long> counted = categoryRepository.countPostsByIdIn(missing).stream()
+                    .collect(Collectors.toMap(PostCountRow::getId, PostCountRow::getPostCount));
+            missing.forEach(categoryId -> {
+                int postCount = Math.toIntExact(counted.getOrDefault(categoryId, 0L));
+                cache.put(categoryId, postCount);
+                postCounts.put(categoryId, postCount);
+            });
+        }
+        return postCounts;
+    }
+
+    public void evictPostCounts(Collection<UUID> categoryIds) {
+        List<UUID> evicted = List.copyOf(categoryIds);
+        TransactionUtils.afterCommit(() -> evicted.forEach(postCounts()::evict));
+    }
+
+    public void evictAllPostCounts() {
+        TransactionUtils.afterCommit(() -> postCounts().clear());
+    }
+
+    private Cache postCounts() {
+        return cacheManager.getCache(CATEGORY_POST_COUNTS);
+    }
+}
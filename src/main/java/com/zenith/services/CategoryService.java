@@ -1,5 +1,8 @@
 package com.zenith.services;
 
+import static com.zenith.configs.CacheConfig.CATEGORIES;
+import static com.zenith.configs.CacheConfig.CATEGORY;
+
 import com.zenith.dtos.requests.CategoryRequest;
 import com.zenith.dtos.responses.CategoryResponse;
 import com.zenith.dtos.responses.PageResponse;
@@ -10,10 +13,14 @@ import com.zenith.exceptions.ValidationException;
 import com.zenith.mappers.CategoryMapper;
 import com.zenith.repositories.CategoryRepository;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -22,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CategoryCatalog categoryCatalog;
 
     public static List<String> ALLOWED_SORT_FIELDS = List.of("name", "createdat", "updatedat");
 
@@ -34,40 +42,50 @@ public class CategoryService {
         }
     }
 
-    public PageResponse<CategoryResponse> getAllCategories(Pageable pageable) {
-        var categories = categoryRepository.findAll(pageable);
-
-        return new PageResponse<>(
-                categories.getNumber(),
-                categories.getSize(),
-                categories.getTotalElements(),
-                categories.getTotalPages(),
-                categories.stream().map(categoryMapper::toResponse).toList());
+    // no transaction of its own, so a read served from the caches takes no connection
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PageResponse<CategoryResponse> getAllCategories(Pageable pageable, boolean includeTotal) {
+        PageResponse<CategoryResponse> page = categoryCatalog.getAllCategories(pageable, includeTotal);
+        return page.withContent(withPostCounts(page.getContent()));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CategoryResponse getCategoryById(UUID categoryId) {
-        return categoryMapper.toResponse(findById(categoryId));
+        return withPostCounts(List.of(categoryCatalog.getCategoryById(categoryId)))
+                .getFirst();
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CATEGORIES, allEntries = true)
     public CategoryResponse createCategory(CategoryRequest request) {
         checkExistence(request.name());
         Category newCategory = categoryMapper.toEntity(request);
 
-        return categoryMapper.toResponse(categoryRepository.save(newCategory));
+        return withPostCount(categoryMapper.toResponse(categoryRepository.save(newCategory)), 0);
     }
 
     @Transactional
+    @Caching(
+            evict = {
+                @CacheEvict(cacheNames = CATEGORIES, allEntries = true),
+                @CacheEvict(cacheNames = CATEGORY, key = "#categoryId")
+            })
     public CategoryResponse updateCategory(UUID categoryId, CategoryRequest request) {
         Category existingCategory = findById(categoryId);
 
         checkExistence(request.name());
         existingCategory.setName(request.name());
 
-        return categoryMapper.toResponse(categoryRepository.save(existingCategory));
+        return withPostCounts(List.of(categoryMapper.toResponse(categoryRepository.save(existingCategory))))
+                .getFirst();
     }
 
     @Transactional
+    @Caching(
+            evict = {
+                @CacheEvict(cacheNames = CATEGORIES, allEntries = true),
+                @CacheEvict(cacheNames = CATEGORY, key = "#categoryId")
+            })
     public void deleteCategory(UUID categoryId) {
         Category category = findById(categoryId);
 
@@ -78,6 +96,19 @@ public class CategoryService {
         categoryRepository.deleteById(categoryId);
     }
 
+    private List<CategoryResponse> withPostCounts(List<CategoryResponse> categories) {
+        Map<UUID, Integer> postCounts = categoryCatalog.getPostCounts(
+                categories.stream().map(CategoryResponse::categoryId).toList());
+        return categories.stream()
+                .map(category -> withPostCount(category, postCounts.get(category.categoryId())))
+                .toList();
+    }
+
+    private static CategoryResponse withPostCount(CategoryResponse category, int postCount) {
+        return new CategoryResponse(
+                category.categoryId(), category.name(), category.createdAt(), category.updatedAt(), postCount);
+    }
+
     private Category findById(UUID categoryId) {
         return categoryRepository
                 .findById(categoryId)
@@ -1,13 +1,28 @@
 package com.zenith.services;
 
+import com.zenith.enums.CommentStatus;
+import com.zenith.enums.PostStatus;
 import com.zenith.repositories.CommentRepository;
 import com.zenith.repositories.PostRepository;
+import com.zenith.repositories.UserRepository;
+import com.zenith.repositories.projections.CommentStatusCount;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntSupplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Deletes archived posts and comments in bounded chunks. Each chunk locks its ids with SKIP LOCKED, removes dependent
+ * rows and counters explicitly and commits on its own, with a pause between chunks to limit lock time and WAL bursts.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -15,18 +30,103 @@ public class CleanupService {
 
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final StatusCountService statusCountService;
+    private final CategoryCatalog categoryCatalog;
+    private final TagCatalog tagCatalog;
+    private final TransactionTemplate transactionTemplate;
+    private final JobLockService jobLockService;
+    private final MeterRegistry meterRegistry;
 
-    @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
+    @Value("${app.cleanup.retention}")
+    private Duration retention;
+
+    @Value("${app.cleanup.chunk-size}")
+    private int chunkSize;
+
+    @Value("${app.cleanup.chunk-pause}")
+    private Duration chunkPause;
+
+    @Scheduled(cron = "${app.cleanup.cron}")
     public void cleanupArchivedPostsAndComments() {
-        log.info("Starting cleanup of archived posts and comments older than 30 days");
+        jobLockService.runExclusively("archive-cleanup", this::deleteArchivedContent);
+    }
 
-        Long deletedComments = commentRepository.deleteArchivedCommentsOlderThan(30);
-        log.info("Deleted {} archived comments older than 30 days", deletedComments);
+    private void deleteArchivedContent() {
+        long retentionDays = retention.toDays();
+        log.info("Starting cleanup of archived posts and comments older than {} days", retentionDays);
+        LocalDateTime cutoffDate = LocalDateTime.now().minus(retention);
 
-        Long deletedPosts = postRepository.deleteArchivedPostsOlderThan(30);
-        log.info("Deleted {} archived posts older than 30 days", deletedPosts);
+        long deletedComments = deleteInChunks("comments", () -> deleteArchivedCommentChunk(cutoffDate));
+        log.info("Deleted {} archived comments older than {} days", deletedComments, retentionDays);
+
+        long deletedPosts = deleteInChunks("posts", () -> deleteArchivedPostChunk(cutoffDate));
+        log.info("Deleted {} archived posts older than {} days", deletedPosts, retentionDays);
 
         log.info("Cleanup completed successfully");
     }
+
+    private long deleteInChunks(String table, IntSupplier chunk) {
+        long total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> chunk.getAsInt());
+            if (deleted == null || deleted == 0) {
+                return total;
+            }
+            total += deleted;
+            meterRegistry.counter("cleanup.chunks", "table", table).increment();
+            meterRegistry.counter("cleanup.rows.deleted", "table", table).increment(deleted);
+            log.debug("Deleted chunk of {} archived {}, {} so far", deleted, table, total);
+            // a short chunk means nothing unlocked is left
+            if (deleted < chunkSize || !pause()) {
+                return total;
+            }
+        }
+    }
+
+    private boolean pause() {
+        if (chunkPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Cleanup interrupted, remaining rows are left for the next run");
+            return false;
+        }
+    }
+
+    private int deleteArchivedCommentChunk(LocalDateTime cutoffDate) {
+        List<UUID> commentIds = commentRepository.lockArchivedIdsOlderThan(cutoffDate, chunkSize);
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        postRepository.decrementCommentCountsForComments(commentIds);
+        userRepository.decrementCommentCountsForComments(commentIds);
+        int deleted = commentRepository.deleteByIdIn(commentIds);
+        statusCountService.adjustComments(CommentStatus.ARCHIVED, -deleted);
+        return deleted;
+    }
+
+    private int deleteArchivedPostChunk(LocalDateTime cutoffDate) {
+        List<UUID> postIds = postRepository.lockArchivedIdsOlderThan(cutoffDate, chunkSize);
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        // bulk deletes bypass the entity cascades, so comments and tag links go first
+        List<CommentStatusCount> childComments = commentRepository.countByPostIdInGroupByStatus(postIds);
+        userRepository.decrementCommentCountsForPosts(postIds);
+        userRepository.decrementPostCountsForPosts(postIds);
+        commentRepository.deleteByPostIdIn(postIds);
+        postRepository.deleteTagLinksByPostIdIn(postIds);
+        int deleted = postRepository.deleteByIdIn(postIds);
+
+        childComments.forEach(count -> statusCountService.adjustComments(count.getStatus(), -count.getCount()));
+        statusCountService.adjustPosts(PostStatus.ARCHIVED, -deleted);
+        categoryCatalog.evictAllPostCounts();
+        tagCatalog.evictAllPostCounts();
+        return deleted;
+    }
 }
@@ -20,8 +20,8 @@ import com.zenith.repositories.UserRepository;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +33,7 @@ public class CommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CommentMapper commentMapper;
+    private final StatusCountService statusCountService;
 
     public static List<String> ALLOWED_SORT_FIELDS = List.of("createdat", "updatedat");
 
@@ -45,18 +46,27 @@ public class CommentService {
         }
     }
 
-    public PageResponse<CommentResponse> getAllComments(UUID postId, Pageable pageable) {
+    public PageResponse<CommentResponse> getAllComments(UUID postId, Pageable pageable, boolean includeTotal) {
         if (!postRepository.existsById(postId)) {
             throw new ResourceNotFoundException("Post not found");
         }
 
-        var comments = commentRepository.findByPostIdAndStatus(postId, CommentStatus.APPROVED, pageable);
+        Slice<Comment> comments = includeTotal
+                ? commentRepository.findByPostIdAndStatus(postId, CommentStatus.APPROVED, pageable)
+                : commentRepository.findSliceByPostIdAndStatus(postId, CommentStatus.APPROVED, pageable);
         return buildPageResponse(comments);
     }
 
-    public PageResponse<CommentResponse> getCommentsByStatus(CommentStatus status, Pageable pageable) {
-        var comments = commentRepository.findByStatus(status, pageable);
-        return buildPageResponse(comments);
+    public PageResponse<CommentResponse> getCommentsByStatus(
+            CommentStatus status, Pageable pageable, boolean includeTotal) {
+        Slice<Comment> comments = commentRepository.findSliceByStatus(status, pageable);
+        if (!includeTotal) {
+            return buildPageResponse(comments);
+        }
+        return PageResponse.of(
+                comments,
+                statusCountService.countComments(status),
+                comments.getContent().stream().map(commentMapper::toResponse).toList());
     }
 
     @Transactional
@@ -75,7 +85,11 @@ public class CommentService {
         newComment.setPost(post);
         newComment.setAuthor(author);
 
-        return commentMapper.toResponse(commentRepository.save(newComment));
+        Comment savedComment = commentRepository.save(newComment);
+        postRepository.adjustCommentCount(post.getId(), 1);
+        userRepository.adjustCommentCount(author.getId(), 1);
+        statusCountService.adjustComments(savedComment.getStatus(), 1);
+        return commentMapper.toResponse(savedComment);
     }
 
     @Transactional
@@ -97,12 +111,19 @@ public class CommentService {
                 .orElseThrow(() -> new ResourceNotFoundException("No authenticated user found"));
         Comment existingComment = findById(commentId);
         checkOwnership(user, existingComment);
+        postRepository.adjustCommentCount(existingComment.getPost().getId(), -1);
+        userRepository.adjustCommentCount(existingComment.getAuthor().getId(), -1);
         commentRepository.deleteById(commentId);
+        statusCountService.adjustComments(existingComment.getStatus(), -1);
     }
 
     @Transactional
     public CommentResponse updateCommentStatus(UUID commentId, CommentStatus status) {
         Comment existingComment = findById(commentId);
+        if (existingComment.getStatus() != status) {
+            statusCountService.adjustComments(existingComment.getStatus(), -1);
+            statusCountService.adjustComments(status, 1);
+        }
         existingComment.setStatus(status);
         return commentMapper.toResponse(commentRepository.save(existingComment));
     }
@@ -119,15 +140,9 @@ public class CommentService {
         }
     }
 
-    private PageResponse<CommentResponse> buildPageResponse(Page<Comment> comments) {
-        return PageResponse.<CommentResponse>builder()
-                .pageNumber(comments.getNumber())
-                .totalPages(comments.getTotalPages())
-                .pageSize(comments.getSize())
-                .totalElements(comments.getTotalElements())
-                .content(comments.getContent().stream()
-                        .map(commentMapper::toResponse)
-                        .toList())
-                .build();
+    private PageResponse<CommentResponse> buildPageResponse(Slice<Comment> comments) {
+        return PageResponse.of(
+                comments,
+                comments.getContent().stream().map(commentMapper::toResponse).toList());
     }
 }
@@ -0,0 +1,47 @@
+package com.zenith.services;
+
+import com.zenith.repositories.PostRepository;
+import com.zenith.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterReconciliationService {
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JobLockService jobLockService;
+
+    // also on startup, so counters of rows written before the columns existed are filled in right away
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.counters.reconcile-cron}")
+    public void reconcileCounters() {
+        jobLockService.runExclusively(
+                "counter-reconciliation", () -> transactionTemplate.executeWithoutResult(status -> reconcile()));
+    }
+
+    private void reconcile() {
+        log.info("Starting reconciliation of post and user counters");
+
+        int posts = postRepository.reconcileCommentCounts();
+        int userPosts = userRepository.reconcilePostCounts();
+        int userComments = userRepository.reconcileCommentCounts();
+
+        if (posts + userPosts + userComments > 0) {
+            log.warn(
+                    "Repaired counter drift on {} post comment counts, {} user post counts and {} user comment counts",
+                    posts,
+                    userPosts,
+                    userComments);
+        }
+        log.info("Counter reconciliation completed successfully");
+    }
+}
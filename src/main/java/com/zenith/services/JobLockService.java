@@ -0,0 +1,126 @@
+package com.zenith.services;
+
+import com.zenith.repositories.JobLockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a scheduled job on at most one instance at a time. The lease is a row in job_locks that is renewed while the
+ * job runs; if an instance dies, its lease expires and the next trigger on any instance takes over.
+ */
+@Slf4j
+@Service
+public class JobLockService {
+
+    private final JobLockRepository jobLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration lease;
+    private final Duration minHold;
+    private final String owner;
+    private final ScheduledExecutorService renewals;
+    private final Map<String, AtomicInteger> held = new ConcurrentHashMap<>();
+
+    public JobLockService(
+            JobLockRepository jobLockRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.jobs.lock.lease}") Duration lease,
+            @Value("${app.jobs.lock.min-hold}") Duration minHold) {
+        this.jobLockRepository = jobLockRepository;
+        // lock statements must commit on their own, even when called inside a job's transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.lease = lease;
+        this.minHold = minHold;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName();
+        this.renewals = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("job-lock-renewal").daemon().factory());
+    }
+
+    /** Runs the job if this instance can take its lock, returns false when another instance holds it. */
+    public boolean runExclusively(String jobName, Runnable job) {
+        if (!acquire(jobName)) {
+            meterRegistry
+                    .counter("job.lock.attempts", "job", jobName, "result", "skipped")
+                    .increment();
+            log.info("Skipping job {}, its lock is held by another run", jobName);
+            return false;
+        }
+        meterRegistry
+                .counter("job.lock.attempts", "job", jobName, "result", "acquired")
+                .increment();
+        AtomicInteger heldGauge = held.computeIfAbsent(
+                jobName, name -> meterRegistry.gauge("job.lock.held", Tags.of("job", name), new AtomicInteger()));
+        heldGauge.set(1);
+        long renewEvery = lease.toMillis() / 3;
+        ScheduledFuture<?> renewal =
+                renewals.scheduleAtFixedRate(() -> renew(jobName), renewEvery, renewEvery, TimeUnit.MILLISECONDS);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            job.run();
+            return true;
+        } finally {
+            renewal.cancel(false);
+            release(jobName);
+            heldGauge.set(0);
+            sample.stop(meterRegistry.timer("job.lock.held.duration", "job", jobName));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewals.shutdownNow();
+    }
+
+    private boolean acquire(String jobName) {
+        Integer acquired =
+                transactionTemplate.execute(status -> jobLockRepository.tryAcquire(jobName, owner, seconds(lease)));
+        return acquired != null && acquired == 1;
+    }
+
+    private void renew(String jobName) {
+        try {
+            Integer renewed =
+                    transactionTemplate.execute(status -> jobLockRepository.extend(jobName, owner, seconds(lease)));
+            if (renewed == null || renewed == 0) {
+                meterRegistry.counter("job.lock.lost", "job", jobName).increment();
+                log.warn("Lost lock for job {}, another instance may run it concurrently", jobName);
+            }
+        } catch (RuntimeException e) {
+            // keep the renewal schedule alive, the next attempt may succeed before the lease runs out
+            log.warn("Failed to renew lock for job {}", jobName, e);
+        }
+    }
+
+    private void release(String jobName) {
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> jobLockRepository.release(jobName, owner, seconds(minHold)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to release lock for job {}, it expires after the lease", jobName, e);
+        }
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
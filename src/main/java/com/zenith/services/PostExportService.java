@@ -0,0 +1,78 @@
+package com.zenith.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenith.dtos.responses.CommentResponse;
+import com.zenith.entities.Comment;
+import com.zenith.entities.Post;
+import com.zenith.mappers.CommentMapper;
+import com.zenith.mappers.PostMapper;
+import com.zenith.repositories.CommentRepository;
+import com.zenith.repositories.PostRepository;
+import com.zenith.repositories.projections.PostTagName;
+import com.zenith.utils.PostRows;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams every published post with its tags and approved comments as NDJSON. Posts, tag names and comments are read
+ * from three server-side cursors ordered by post id and merged row by row, so memory use does not grow with the table.
+ * The repeatable read transaction gives all three cursors the same snapshot.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostExportService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostMapper postMapper;
+    private final CommentMapper commentMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void exportPublishedPosts(OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        long exported = 0;
+        try (Stream<Post> posts = postRepository.streamPublished();
+                Stream<PostTagName> tagNames = postRepository.streamPublishedTagNames();
+                Stream<Comment> comments = commentRepository.streamApprovedOfPublishedPosts()) {
+            PostRows<PostTagName> tagCursor = new PostRows<>(tagNames.iterator(), PostTagName::getPostId);
+            PostRows<Comment> commentCursor = new PostRows<>(
+                    comments.iterator(), comment -> comment.getPost().getId());
+
+            for (Iterator<Post> rows = posts.iterator(); rows.hasNext(); ) {
+                Post post = rows.next();
+                Set<String> tags = tagCursor.takeFor(post.getId()).stream()
+                        .map(PostTagName::getName)
+                        .collect(Collectors.toCollection(TreeSet::new));
+                List<CommentResponse> approved = commentCursor.takeFor(post.getId()).stream()
+                        .map(commentMapper::toResponse)
+                        .toList();
+                writer.write(objectMapper.writeValueAsString(postMapper.toExport(post, tags, approved)));
+                writer.write('\n');
+                // each row is written once, keep the persistence context from growing with the export
+                entityManager.clear();
+                exported++;
+            }
+        }
+        writer.flush();
+        log.info("Exported {} published posts", exported);
+    }
+}
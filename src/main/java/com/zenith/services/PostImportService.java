@@ -0,0 +1,111 @@
+package com.zenith.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenith.dtos.requests.CreatePostRequest;
+import com.zenith.dtos.responses.PostImportResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reads CreatePostRequest objects from an NDJSON stream one line at a time and writes one PostImportResult line per
+ * input line. Valid lines are created in chunks, each chunk in its own transaction.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostImportService {
+
+    private final PostService postService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${app.posts.import.chunk-size}")
+    private int chunkSize;
+
+    public void importPosts(String username, InputStream input, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+
+        Map<Integer, CreatePostRequest> chunk = new LinkedHashMap<>();
+        List<PostImportResult> rejected = new ArrayList<>();
+        int line = 0;
+        int created = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            String error = parse(line, text, chunk);
+            if (error != null) {
+                rejected.add(PostImportResult.failed(line, error));
+            }
+            if (chunk.size() + rejected.size() >= chunkSize) {
+                created += flush(username, chunk, rejected, writer);
+            }
+        }
+        created += flush(username, chunk, rejected, writer);
+        log.info("Imported {} posts from {} lines for {}", created, line, username);
+    }
+
+    private String parse(int line, String text, Map<Integer, CreatePostRequest> chunk) {
+        CreatePostRequest request;
+        try {
+            request = objectMapper.readValue(text, CreatePostRequest.class);
+        } catch (JsonProcessingException e) {
+            return "Malformed JSON: " + e.getOriginalMessage();
+        }
+        var violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        chunk.put(line, request);
+        return null;
+    }
+
+    private int flush(
+            String username, Map<Integer, CreatePostRequest> chunk, List<PostImportResult> rejected, Writer writer)
+            throws IOException {
+        List<PostImportResult> results = new ArrayList<>(rejected);
+        if (!chunk.isEmpty()) {
+            try {
+                results.addAll(postService.importPosts(username, chunk));
+            } catch (RuntimeException e) {
+                log.warn("Failed to import chunk of {} posts", chunk.size(), e);
+                chunk.keySet().forEach(line -> results.add(PostImportResult.failed(line, "Chunk rolled back")));
+            }
+        }
+        results.sort(Comparator.comparingInt(PostImportResult::line));
+        for (PostImportResult result : results) {
+            writer.write(objectMapper.writeValueAsString(result));
+            writer.write('\n');
+        }
+        writer.flush();
+
+        chunk.clear();
+        rejected.clear();
+        return (int) results.stream().filter(result -> result.postId() != null).count();
+    }
+}
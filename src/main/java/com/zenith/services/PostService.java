@@ -3,31 +3,57 @@ package com.zenith.services;
 import static com.zenith.enums.PostStatus.PUBLISHED;
 
 import com.zenith.dtos.requests.CreatePostRequest;
+import com.zenith.dtos.requests.PostFilter;
 import com.zenith.dtos.requests.UpdatePostRequest;
+import com.zenith.dtos.responses.CursorPageResponse;
 import com.zenith.dtos.responses.PageResponse;
+import com.zenith.dtos.responses.PostImportResult;
 import com.zenith.dtos.responses.PostResponse;
+import com.zenith.dtos.responses.PostSearchResult;
 import com.zenith.entities.Category;
 import com.zenith.entities.Post;
 import com.zenith.entities.Tag;
 import com.zenith.entities.User;
 import com.zenith.enums.PostStatus;
+import com.zenith.enums.TagMatch;
 import com.zenith.exceptions.ForbiddenException;
 import com.zenith.exceptions.ResourceNotFoundException;
 import com.zenith.exceptions.UnauthorizedException;
 import com.zenith.exceptions.ValidationException;
 import com.zenith.mappers.PostMapper;
 import com.zenith.repositories.CategoryRepository;
+import com.zenith.repositories.CommentRepository;
 import com.zenith.repositories.PostRepository;
 import com.zenith.repositories.TagRepository;
 import com.zenith.repositories.UserRepository;
+import com.zenith.repositories.projections.CommentStatusCount;
+import com.zenith.repositories.projections.PostCounts;
+import com.zenith.repositories.projections.PostSearchHit;
+import com.zenith.repositories.specifications.PostSpecifications;
+import com.zenith.utils.PostCursor;
+import com.zenith.utils.PostCursor.SortKey;
+import com.zenith.utils.SearchCursor;
+import com.zenith.utils.UuidV7;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,7 +66,12 @@ public class PostService {
     private final CategoryRepository categoryRepository;
     private final TagRepository tagRepository;
     private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
     private final PostMapper postMapper;
+    private final StatusCountService statusCountService;
+    private final PostSuggestionService postSuggestionService;
+    private final CategoryCatalog categoryCatalog;
+    private final TagCatalog tagCatalog;
 
     public static List<String> ALLOWED_SORT_FIELDS = List.of("title", "createdat", "updatedat");
 
@@ -53,37 +84,101 @@ public class PostService {
         }
     }
 
-    public PageResponse<PostResponse> getPublishedPosts(UUID categoryId, String tag, Pageable pageable) {
-        Page<Post> posts;
+    public PageResponse<PostResponse> getPublishedPosts(PostFilter filter, Pageable pageable, boolean includeTotal) {
+        Specification<Post> specification = publishedMatching(filter);
+        Slice<Post> posts = includeTotal
+                ? postRepository.findAll(specification, pageable)
+                : postRepository.findBy(specification, query -> query.slice(pageable));
+        return buildPageResponse(posts);
+    }
+
+    public CursorPageResponse<PostResponse> getPublishedPostsByCursor(
+            String cursor, int size, String sortBy, String sortDirection) {
+        SortKey sortKey = SortKey.from(sortBy);
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        // one extra row tells whether another page follows without counting
+        Limit limit = Limit.of(size + 1);
+
+        List<Post> posts;
 
-        if (categoryId != null) {
-            posts = postRepository.findByCategoryId(categoryId, pageable);
-        } else if (tag != null && !tag.isBlank()) {
-            posts = postRepository.findByTagsName(tag, pageable);
+        if (cursor == null || cursor.isBlank()) {
+            Sort sort = Sort.by(direction, sortKey.property(), "id");
+            posts = postRepository.findPublished(sort, limit);
         } else {
-            posts = postRepository.findPublished(pageable);
+            PostCursor position = PostCursor.decode(cursor);
+            if (position.sortKey() != sortKey || position.direction() != direction) {
+                throw new ValidationException("Cursor does not match the requested sort");
+            }
+            posts = findPublishedAfter(position, limit);
         }
-        return buildPageResponse(posts);
+
+        boolean hasNext = posts.size() > size;
+        List<Post> content = hasNext ? posts.subList(0, size) : posts;
+        return CursorPageResponse.<PostResponse>builder()
+                .pageSize(size)
+                .hasNext(hasNext)
+                .nextCursor(
+                        hasNext
+                                ? PostCursor.after(content.getLast(), sortKey, direction)
+                                        .encode()
+                                : null)
+                .content(toResponses(content))
+                .build();
     }
 
-    public PageResponse<PostResponse> getMyPosts(String username, PostStatus status, Pageable pageable) {
+    public CursorPageResponse<PostSearchResult> searchPublishedPosts(String query, String cursor, int size) {
+        // one extra row tells whether another page follows without counting
+        int limit = size + 1;
+        List<PostSearchHit> hits;
+        if (cursor == null || cursor.isBlank()) {
+            hits = postRepository.searchPublished(query, limit);
+        } else {
+            SearchCursor position = SearchCursor.decode(cursor);
+            hits = postRepository.searchPublishedAfter(query, position.rank(), position.id(), limit);
+        }
+
+        boolean hasNext = hits.size() > size;
+        List<PostSearchHit> content = hasNext ? hits.subList(0, size) : hits;
+        return CursorPageResponse.<PostSearchResult>builder()
+                .pageSize(size)
+                .hasNext(hasNext)
+                .nextCursor(
+                        hasNext
+                                ? new SearchCursor(
+                                                content.getLast().getRank(),
+                                                content.getLast().getPostId())
+                                        .encode()
+                                : null)
+                .content(content.stream().map(postMapper::toSearchResult).toList())
+                .build();
+    }
+
+    public PageResponse<PostResponse> getMyPosts(
+            String username, PostStatus status, Pageable pageable, boolean includeTotal) {
         User author = userRepository
                 .findByUsername(username)
                 .orElseThrow(() -> new UnauthorizedException("No authenticated user found"));
 
-        Page<Post> posts;
+        Slice<Post> posts;
 
         if (status != null) {
-            posts = postRepository.findByAuthorIdAndStatus(author.getId(), status, pageable);
+            posts = includeTotal
+                    ? postRepository.findByAuthorIdAndStatus(author.getId(), status, pageable)
+                    : postRepository.findSliceByAuthorIdAndStatus(author.getId(), status, pageable);
         } else {
-            posts = postRepository.findByAuthorId(author.getId(), pageable);
+            posts = includeTotal
+                    ? postRepository.findByAuthorId(author.getId(), pageable)
+                    : postRepository.findSliceByAuthorId(author.getId(), pageable);
         }
         return buildPageResponse(posts);
     }
 
-    public PageResponse<PostResponse> getPostsByStatus(PostStatus status, Pageable pageable) {
-        var posts = postRepository.findByStatus(status, pageable);
-        return buildPageResponse(posts);
+    public PageResponse<PostResponse> getPostsByStatus(PostStatus status, Pageable pageable, boolean includeTotal) {
+        Slice<Post> posts = postRepository.findSliceByStatus(status, pageable);
+        if (!includeTotal) {
+            return buildPageResponse(posts);
+        }
+        return PageResponse.of(posts, statusCountService.countPosts(status), toResponses(posts.getContent()));
     }
 
     public PostResponse getPostById(String username, UUID postId) {
@@ -120,7 +215,67 @@ public class PostService {
         Set<Tag> tags = resolveTags(request.tags());
         newPost.setTags(tags);
 
-        return postMapper.toResponse(postRepository.save(newPost));
+        Post savedPost = postRepository.save(newPost);
+        userRepository.adjustPostCount(author.getId(), 1);
+        statusCountService.adjustPosts(savedPost.getStatus(), 1);
+        categoryCatalog.evictPostCounts(List.of(category.getId()));
+        tagCatalog.evictPostCounts(tagIds(tags));
+        postSuggestionService.index(savedPost);
+        return postMapper.toResponse(savedPost);
+    }
+
+    // one transaction per chunk of NDJSON lines; categories and tags are resolved for the whole chunk at once
+    @Transactional
+    public List<PostImportResult> importPosts(String username, Map<Integer, CreatePostRequest> requestsByLine) {
+        User author = userRepository
+                .findByUsername(username)
+                .orElseThrow(() -> new UnauthorizedException("No authenticated user found"));
+
+        Set<UUID> categoryIds = requestsByLine.values().stream()
+                .map(CreatePostRequest::categoryId)
+                .collect(Collectors.toSet());
+        Map<UUID, Category> categories = categoryRepository.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        List<PostImportResult> results = new ArrayList<>();
+        Map<Integer, Post> postsByLine = new LinkedHashMap<>();
+        requestsByLine.forEach((line, request) -> {
+            Category category = categories.get(request.categoryId());
+            if (category == null) {
+                results.add(PostImportResult.failed(line, "Category not found"));
+                return;
+            }
+            Post post = postMapper.toEntity(request);
+            post.setAuthor(author);
+            post.setCategory(category);
+            postsByLine.put(line, post);
+        });
+        if (postsByLine.isEmpty()) {
+            return results;
+        }
+
+        Set<String> tagNames = postsByLine.keySet().stream()
+                .flatMap(line -> tagNames(requestsByLine.get(line)).stream())
+                .collect(Collectors.toSet());
+        Map<String, Tag> tags = resolveTagsByName(tagNames);
+        postsByLine.forEach((line, post) -> post.setTags(tagNames(requestsByLine.get(line)).stream()
+                .map(name -> tags.get(name.toLowerCase(Locale.ROOT)))
+                .collect(Collectors.toSet())));
+
+        postRepository.saveAll(postsByLine.values());
+        userRepository.adjustPostCount(author.getId(), postsByLine.size());
+        postsByLine.values().stream()
+                .collect(Collectors.groupingBy(Post::getStatus, Collectors.counting()))
+                .forEach(statusCountService::adjustPosts);
+        categoryCatalog.evictPostCounts(postsByLine.values().stream()
+                .map(post -> post.getCategory().getId())
+                .collect(Collectors.toSet()));
+        tagCatalog.evictPostCounts(tagIds(tags.values()));
+        postsByLine.values().forEach(postSuggestionService::index);
+
+        postsByLine.forEach((line, post) -> results.add(PostImportResult.created(line, post.getId())));
+        results.sort(Comparator.comparingInt(PostImportResult::line));
+        return results;
     }
 
     @Transactional
@@ -144,15 +299,20 @@ public class PostService {
             Category category = categoryRepository
                     .findById(request.categoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+            categoryCatalog.evictPostCounts(List.of(existingPost.getCategory().getId(), category.getId()));
             existingPost.setCategory(category);
         }
 
         if (request.tags() != null && !request.tags().isEmpty()) {
             Set<Tag> tags = resolveTags(request.tags());
+            tagCatalog.evictPostCounts(Stream.concat(tagIds(existingPost.getTags()).stream(), tagIds(tags).stream())
+                    .collect(Collectors.toSet()));
             existingPost.setTags(tags);
         }
 
-        return postMapper.toResponse(postRepository.save(existingPost));
+        Post savedPost = postRepository.save(existingPost);
+        postSuggestionService.index(savedPost);
+        return postMapper.toResponse(savedPost);
     }
 
     @Transactional
@@ -162,27 +322,125 @@ public class PostService {
                 .orElseThrow(() -> new ResourceNotFoundException("No authenticated user found"));
         Post exitsingPost = findById(postId);
         checkOwnership(user, exitsingPost);
+        // the post's comments go with it by cascade
+        List<CommentStatusCount> deletedComments = commentRepository.countByPostIdInGroupByStatus(List.of(postId));
+        userRepository.decrementCommentCountsForPost(postId);
+        userRepository.adjustPostCount(exitsingPost.getAuthor().getId(), -1);
+        categoryCatalog.evictPostCounts(List.of(exitsingPost.getCategory().getId()));
+        tagCatalog.evictPostCounts(tagIds(exitsingPost.getTags()));
         postRepository.deleteById(postId);
+        statusCountService.adjustPosts(exitsingPost.getStatus(), -1);
+        deletedComments.forEach(count -> statusCountService.adjustComments(count.getStatus(), -count.getCount()));
+        postSuggestionService.remove(postId);
     }
 
     @Transactional
     public PostResponse updatePostStatus(UUID postId, PostStatus status) {
         Post existingPost = findById(postId);
+        if (existingPost.getStatus() != status) {
+            statusCountService.adjustPosts(existingPost.getStatus(), -1);
+            statusCountService.adjustPosts(status, 1);
+        }
         existingPost.setStatus(status);
-        return postMapper.toResponse(postRepository.save(existingPost));
+        Post savedPost = postRepository.save(existingPost);
+        postSuggestionService.index(savedPost);
+        return postMapper.toResponse(savedPost);
     }
 
     private Post findById(UUID postId) {
         return postRepository.findById(postId).orElseThrow(() -> new ResourceNotFoundException("Post not found"));
     }
 
-    private Set<Tag> resolveTags(Set<String> tagNames) {
-        return tagNames.stream()
-                .map(name -> tagRepository
-                        .findByNameIgnoreCase(name)
-                        .orElseGet(() ->
-                                tagRepository.save(Tag.builder().name(name).build())))
+    // one query for all filters; tag names become ids first so the tag subquery only reads post_tags
+    private Specification<Post> publishedMatching(PostFilter filter) {
+        if (filter.createdFrom() != null
+                && filter.createdTo() != null
+                && !filter.createdFrom().isBefore(filter.createdTo())) {
+            throw new ValidationException("createdFrom must be before createdTo");
+        }
+        Specification<Post> specification = PostSpecifications.published();
+        if (filter.categoryId() != null) {
+            specification = specification.and(PostSpecifications.inCategory(filter.categoryId()));
+        }
+        if (filter.authorId() != null) {
+            specification = specification.and(PostSpecifications.byAuthor(filter.authorId()));
+        }
+        if (filter.createdFrom() != null) {
+            specification = specification.and(PostSpecifications.createdFrom(filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            specification = specification.and(PostSpecifications.createdBefore(filter.createdTo()));
+        }
+        Set<String> tagKeys = filter.tags().stream()
+                .filter(name -> !name.isBlank())
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
                 .collect(Collectors.toSet());
+        if (!tagKeys.isEmpty()) {
+            List<UUID> tagIds = tagRepository.findByLowerNameIn(tagKeys).stream()
+                    .map(Tag::getId)
+                    .toList();
+            specification = specification.and(
+                    filter.tagMatch() == TagMatch.ALL
+                            ? PostSpecifications.taggedWithAll(tagIds, tagKeys.size())
+                            : PostSpecifications.taggedWithAny(tagIds));
+        }
+        return specification;
+    }
+
+    private List<Post> findPublishedAfter(PostCursor cursor, Limit limit) {
+        boolean ascending = cursor.direction().isAscending();
+        return switch (cursor.sortKey()) {
+            case CREATED_AT ->
+                ascending
+                        ? postRepository.findPublishedAfterCreatedAt(cursor.createdAt(), cursor.id(), limit)
+                        : postRepository.findPublishedBeforeCreatedAt(cursor.createdAt(), cursor.id(), limit);
+            case TITLE ->
+                ascending
+                        ? postRepository.findPublishedAfterTitle(cursor.value(), cursor.id(), limit)
+                        : postRepository.findPublishedBeforeTitle(cursor.value(), cursor.id(), limit);
+        };
+    }
+
+    private Set<Tag> resolveTags(Set<String> tagNames) {
+        return new HashSet<>(resolveTagsByName(tagNames).values());
+    }
+
+    private static List<UUID> tagIds(Collection<Tag> tags) {
+        return tags.stream().map(Tag::getId).toList();
+    }
+
+    private Set<String> tagNames(CreatePostRequest request) {
+        return request.tags() != null ? request.tags() : Set.of();
+    }
+
+    // one lookup for all names, plus one insert and one re-read when some are new
+    private Map<String, Tag> resolveTagsByName(Set<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> namesByKey = tagNames.stream()
+                .collect(Collectors.toMap(
+                        name -> name.toLowerCase(Locale.ROOT), Function.identity(), (first, second) -> first));
+
+        List<Tag> tags = tagRepository.findByLowerNameIn(namesByKey.keySet());
+        if (tags.size() < namesByKey.size()) {
+            Set<String> existing = tags.stream()
+                    .map(tag -> tag.getName().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toSet());
+            String[] missing = namesByKey.entrySet().stream()
+                    .filter(entry -> !existing.contains(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .toArray(String[]::new);
+            UUID[] ids =
+                    Stream.generate(UuidV7::randomUuid).limit(missing.length).toArray(UUID[]::new);
+
+            tagRepository.insertIgnoringConflicts(ids, missing);
+            tagCatalog.evictTagListings();
+            tags = tagRepository.findByLowerNameIn(namesByKey.keySet());
+        }
+        return tags.stream()
+                .collect(Collectors.toMap(
+                        tag -> tag.getName().toLowerCase(Locale.ROOT), Function.identity(), (first, second) -> first));
     }
 
     private void checkOwnership(User user, Post post) {
@@ -195,13 +453,28 @@ public class PostService {
         return post.getAuthor().getUsername().equals(user.getUsername()) || user.isAdmin() || user.isModerator();
     }
 
-    private PageResponse<PostResponse> buildPageResponse(Page<Post> posts) {
-        return PageResponse.<PostResponse>builder()
-                .pageNumber(posts.getNumber())
-                .totalPages(posts.getTotalPages())
-                .pageSize(posts.getSize())
-                .totalElements(posts.getTotalElements())
-                .content(posts.getContent().stream().map(postMapper::toResponse).toList())
-                .build();
+    private PageResponse<PostResponse> buildPageResponse(Slice<Post> posts) {
+        return PageResponse.of(posts, toResponses(posts.getContent()));
+    }
+
+    private List<PostResponse> toResponses(List<Post> posts) {
+        Map<UUID, PostCounts> counts = findCounts(posts);
+        return posts.stream()
+                .map(post -> toResponse(post, counts.get(post.getId())))
+                .toList();
+    }
+
+    // one grouped query per page instead of initializing the tags of every post
+    private Map<UUID, PostCounts> findCounts(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> postIds = posts.stream().map(Post::getId).toList();
+        return postRepository.findCountsByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostCounts::getPostId, Function.identity()));
+    }
+
+    private PostResponse toResponse(Post post, PostCounts counts) {
+        return postMapper.toResponse(post, counts != null ? counts.getTagCount() : 0);
     }
 }
@@ -0,0 +1,145 @@
+package com.zenith.services;
+
+import static com.zenith.enums.PostStatus.PUBLISHED;
+
+import com.zenith.dtos.responses.PostSuggestion;
+import com.zenith.entities.Post;
+import com.zenith.entities.Tag;
+import com.zenith.repositories.PostRepository;
+import com.zenith.repositories.projections.PostSuggestionRow;
+import com.zenith.repositories.projections.PostTagName;
+import com.zenith.utils.PostRows;
+import com.zenith.utils.PrefixIndex;
+import com.zenith.utils.TransactionUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Typeahead over published posts from an in-memory {@link PrefixIndex} of titles, category names and tag names. The
+ * index is built from a streaming scan once the application is ready, kept current by {@link PostService} after each
+ * committed change on this instance, and rebuilt periodically to drop replaced postings and pick up changes made
+ * elsewhere.
+ */
+@Slf4j
+@Service
+public class PostSuggestionService {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock rebuilding = new ReentrantLock();
+
+    private volatile PrefixIndex<PostSuggestion> index = new PrefixIndex<>();
+    // updates applied while a rebuild scans, replayed on the rebuilt index before it is swapped in
+    private List<Consumer<PrefixIndex<PostSuggestion>>> pending;
+
+    public PostSuggestionService(
+            PostRepository postRepository, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        // both cursors must see the same snapshot for their rows to line up by post id
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        Gauge.builder("post.suggestions.documents", this, service -> service.index.size())
+                .register(meterRegistry);
+        Gauge.builder("post.suggestions.terms", this, service -> service.index.termCount())
+                .register(meterRegistry);
+    }
+
+    public List<PostSuggestion> suggest(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    /** Reindexes the post once the current transaction commits, or drops it when it is no longer published. */
+    public void index(Post post) {
+        UUID postId = post.getId();
+        if (post.getStatus() != PUBLISHED) {
+            remove(postId);
+            return;
+        }
+        // read now, the lazy associations are gone after commit
+        PostSuggestion suggestion = new PostSuggestion(postId, post.getTitle());
+        List<String> texts = texts(
+                post.getTitle(),
+                post.getCategory().getName(),
+                post.getTags().stream().map(Tag::getName).toList());
+        TransactionUtils.afterCommit(() -> apply(target -> target.put(postId, suggestion, texts)));
+    }
+
+    public void remove(UUID postId) {
+        TransactionUtils.afterCommit(() -> apply(target -> target.remove(postId)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${app.posts.suggest.rebuild-interval}",
+            fixedDelayString = "${app.posts.suggest.rebuild-interval}")
+    public void rebuild() {
+        if (!rebuilding.tryLock()) {
+            return;
+        }
+        try {
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            PrefixIndex<PostSuggestion> rebuilt = new PrefixIndex<>();
+            transactionTemplate.executeWithoutResult(status -> scanPublished(rebuilt));
+            synchronized (this) {
+                pending.forEach(update -> update.accept(rebuilt));
+                index = rebuilt;
+            }
+            log.info("Indexed {} published posts under {} terms for suggestions", rebuilt.size(), rebuilt.termCount());
+        } finally {
+            synchronized (this) {
+                pending = null;
+            }
+            rebuilding.unlock();
+        }
+    }
+
+    private void scanPublished(PrefixIndex<PostSuggestion> target) {
+        try (Stream<PostSuggestionRow> posts = postRepository.streamPublishedSuggestionRows();
+                Stream<PostTagName> tagNames = postRepository.streamPublishedTagNames()) {
+            PostRows<PostTagName> tagCursor = new PostRows<>(tagNames.iterator(), PostTagName::getPostId);
+            for (Iterator<PostSuggestionRow> rows = posts.iterator(); rows.hasNext(); ) {
+                PostSuggestionRow row = rows.next();
+                List<String> tags = tagCursor.takeFor(row.getPostId()).stream()
+                        .map(PostTagName::getName)
+                        .toList();
+                target.put(
+                        row.getPostId(),
+                        new PostSuggestion(row.getPostId(), row.getTitle()),
+                        texts(row.getTitle(), row.getCategoryName(), tags));
+            }
+        }
+    }
+
+    private synchronized void apply(Consumer<PrefixIndex<PostSuggestion>> update) {
+        update.accept(index);
+        if (pending != null) {
+            pending.add(update);
+        }
+    }
+
+    private static List<String> texts(String title, String categoryName, List<String> tagNames) {
+        List<String> texts = new ArrayList<>(tagNames.size() + 2);
+        texts.add(title);
+        texts.add(categoryName);
+        texts.addAll(tagNames);
+        return texts;
+    }
+}
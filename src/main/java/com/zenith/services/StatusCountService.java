@@ -0,0 +1,79 @@
+package com.zenith.services;
+
+import com.zenith.enums.CommentStatus;
+import com.zenith.enums.PostStatus;
+import com.zenith.repositories.CommentRepository;
+import com.zenith.repositories.PostRepository;
+import com.zenith.utils.TransactionUtils;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StatusCountService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    private final Map<PostStatus, Long> postCounts = new ConcurrentHashMap<>();
+    private final Map<CommentStatus, Long> commentCounts = new ConcurrentHashMap<>();
+
+    @Value("${app.status-counts.estimate.enabled}")
+    private boolean estimateEnabled;
+
+    @Value("${app.status-counts.estimate.threshold}")
+    private long estimateThreshold;
+
+    public long countPosts(PostStatus status) {
+        return postCounts.computeIfAbsent(status, this::loadPostCount);
+    }
+
+    public long countComments(CommentStatus status) {
+        return commentCounts.computeIfAbsent(status, this::loadCommentCount);
+    }
+
+    public void adjustPosts(PostStatus status, long delta) {
+        TransactionUtils.afterCommit(() -> postCounts.computeIfPresent(status, (key, count) -> count + delta));
+    }
+
+    public void adjustComments(CommentStatus status, long delta) {
+        TransactionUtils.afterCommit(() -> commentCounts.computeIfPresent(status, (key, count) -> count + delta));
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.status-counts.refresh-interval}",
+            fixedDelayString = "${app.status-counts.refresh-interval}")
+    public void refreshCounts() {
+        postCounts.replaceAll((status, count) -> loadPostCount(status));
+        commentCounts.replaceAll((status, count) -> loadCommentCount(status));
+        log.debug("Refreshed {} post and {} comment status counts", postCounts.size(), commentCounts.size());
+    }
+
+    private long loadPostCount(PostStatus status) {
+        if (estimateEnabled && postRepository.estimateRowCount() >= estimateThreshold) {
+            Long estimate = postRepository.estimateCountByStatus(status.name());
+            if (estimate != null) {
+                return estimate;
+            }
+        }
+        return postRepository.countByStatus(status);
+    }
+
+    private long loadCommentCount(CommentStatus status) {
+        if (estimateEnabled && commentRepository.estimateRowCount() >= estimateThreshold) {
+            Long estimate = commentRepository.estimateCountByStatus(status.name());
+            if (estimate != null) {
+                return estimate;
+            }
+        }
+        return commentRepository.countByStatus(status);
+    }
+}
@@ -0,0 +1,101 @@
+package com.zenith.services;
+
+import static com.zenith.configs.CacheConfig.TAG;
+import static com.zenith.configs.CacheConfig.TAGS;
+import static com.zenith.configs.CacheConfig.TAG_POST_COUNTS;
+
+import com.zenith.dtos.responses.PageResponse;
+import com.zenith.dtos.responses.TagResponse;
+import com.zenith.entities.Tag;
+import com.zenith.exceptions.ResourceNotFoundException;
+import com.zenith.mappers.TagMapper;
+import com.zenith.repositories.TagRepository;
+import com.zenith.repositories.projections.PostCountRow;
+import com.zenith.utils.TransactionUtils;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Cached tag reads for {@link TagService}. Responses are cached without post counts, so only tag writes, and post
+ * writes that create tags, evict them. Post counts are cached per tag and evicted by the post writes that move them.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagCatalog {
+    private final TagRepository tagRepository;
+    private final TagMapper tagMapper;
+    private final CacheManager cacheManager;
+
+    @Cacheable(TAGS)
+    @Transactional(readOnly = true)
+    public PageResponse<TagResponse> getAllTags(Pageable pageable, boolean includeTotal) {
+        Slice<Tag> tags = includeTotal ? tagRepository.findAll(pageable) : tagRepository.findAllBy(pageable);
+
+        return PageResponse.of(tags, tags.stream().map(tagMapper::toResponse).toList());
+    }
+
+    @Cacheable(TAG)
+    @Transactional(readOnly = true)
+    public TagResponse getTagById(UUID tagId) {
+        return tagRepository
+                .findById(tagId)
+                .map(tagMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Tag not found"));
+    }
+
+    // for tags created outside TagService, which evicts the listings itself
+    public void evictTagListings() {
+        TransactionUtils.afterCommit(() -> cacheManager.getCache(TAGS).clear());
+    }
+
+    // cached counts first, then one grouped count for the tags that missed
+    public Map<UUID, Integer> getPostCounts(Collection<UUID> tagIds) {
+        Cache cache = postCounts();
+        Map<UUID, Integer> postCounts = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID tagId : tagIds) {
+            Integer postCount = cache.get(tagId, Integer.class);
+            if (postCount != null) {
+                postCounts.put(tagId, postCount);
+            } else {
+                missing.add(tagId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<UUID, Long> counted = tagRepository.countPostsByIdIn(missing).stream()
+                    .collect(Collectors.toMap(PostCountRow::getId, PostCountRow::getPostCount));
+            missing.forEach(tagId -> {
+                int postCount = Math.toIntExact(counted.getOrDefault(tagId, 0L));
+                cache.put(tagId, postCount);
+                postCounts.put(tagId, postCount);
+            });
+        }
+        return postCounts;
+    }
+
+    public void evictPostCounts(Collection<UUID> tagIds) {
+        List<UUID> evicted = List.copyOf(tagIds);
+        TransactionUtils.afterCommit(() -> evicted.forEach(postCounts()::evict));
+    }
+
+    public void evictAllPostCounts() {
+        TransactionUtils.afterCommit(() -> postCounts().clear());
+    }
+
+    private Cache postCounts() {
+        return cacheManager.getCache(TAG_POST_COUNTS);
+    }
+}
@@ -1,5 +1,8 @@
 package com.zenith.services;
 
+import static com.zenith.configs.CacheConfig.TAG;
+import static com.zenith.configs.CacheConfig.TAGS;
+
 import com.zenith.dtos.requests.TagRequest;
 import com.zenith.dtos.responses.PageResponse;
 import com.zenith.dtos.responses.TagResponse;
@@ -10,10 +13,14 @@ import com.zenith.exceptions.ValidationException;
 import com.zenith.mappers.TagMapper;
 import com.zenith.repositories.TagRepository;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -22,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class TagService {
     private final TagRepository tagRepository;
     private final TagMapper tagMapper;
+    private final TagCatalog tagCatalog;
 
     public static List<String> ALLOWED_SORT_FIELDS = List.of("name", "createdat", "updatedat");
 
@@ -34,40 +42,41 @@ public class TagService {
         }
     }
 
-    public PageResponse<TagResponse> getAllTags(Pageable pageable) {
-        var tags = tagRepository.findAll(pageable);
-
-        return new PageResponse<>(
-                tags.getNumber(),
-                tags.getSize(),
-                tags.getTotalElements(),
-                tags.getTotalPages(),
-                tags.stream().map(tagMapper::toResponse).toList());
+    // no transaction of its own, so a read served from the caches takes no connection
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PageResponse<TagResponse> getAllTags(Pageable pageable, boolean includeTotal) {
+        PageResponse<TagResponse> page = tagCatalog.getAllTags(pageable, includeTotal);
+        return page.withContent(withPostCounts(page.getContent()));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TagResponse getTagById(UUID tagId) {
-        return tagMapper.toResponse(findById(tagId));
+        return withPostCounts(List.of(tagCatalog.getTagById(tagId))).getFirst();
     }
 
     @Transactional
+    @CacheEvict(cacheNames = TAGS, allEntries = true)
     public TagResponse createTag(TagRequest request) {
         checkExistence(request.name());
         Tag newTag = tagMapper.toEntity(request);
 
-        return tagMapper.toResponse(tagRepository.save(newTag));
+        return withPostCount(tagMapper.toResponse(tagRepository.save(newTag)), 0);
     }
 
     @Transactional
+    @Caching(evict = {@CacheEvict(cacheNames = TAGS, allEntries = true), @CacheEvict(cacheNames = TAG, key = "#tagId")})
     public TagResponse updateTag(UUID tagId, TagRequest request) {
         Tag existingTag = findById(tagId);
 
         checkExistence(request.name());
         existingTag.setName(request.name());
 
-        return tagMapper.toResponse(tagRepository.save(existingTag));
+        return withPostCounts(List.of(tagMapper.toResponse(tagRepository.save(existingTag))))
+                .getFirst();
     }
 
     @Transactional
+    @Caching(evict = {@CacheEvict(cacheNames = TAGS, allEntries = true), @CacheEvict(cacheNames = TAG, key = "#tagId")})
     public void deleteTag(UUID tagId) {
         Tag tag = findById(tagId);
 
@@ -78,6 +87,18 @@ public class TagService {
         tagRepository.deleteById(tagId);
     }
 
+    private List<TagResponse> withPostCounts(List<TagResponse> tags) {
+        Map<UUID, Integer> postCounts =
+                tagCatalog.getPostCounts(tags.stream().map(TagResponse::tagId).toList());
+        return tags.stream()
+                .map(tag -> withPostCount(tag, postCounts.get(tag.tagId())))
+                .toList();
+    }
+
+    private static TagResponse withPostCount(TagResponse tag, int postCount) {
+        return new TagResponse(tag.tagId(), tag.name(), tag.createdAt(), tag.updatedAt(), postCount);
+    }
+
     private Tag findById(UUID tagId) {
         return tagRepository.findById(tagId).orElseThrow(() -> new ResourceNotFoundException("Tag not found"));
     }
@@ -11,12 +11,18 @@ import com.zenith.exceptions.ResourceNotFoundException;
 import com.zenith.exceptions.UnauthorizedException;
 import com.zenith.exceptions.ValidationException;
 import com.zenith.mappers.UserMapper;
+import com.zenith.repositories.CommentRepository;
+import com.zenith.repositories.PostRepository;
 import com.zenith.repositories.UserRepository;
+import com.zenith.repositories.projections.CommentStatusCount;
+import com.zenith.repositories.projections.PostStatusCount;
+import com.zenith.security.PrincipalCache;
+import com.zenith.security.TokenVersionCache;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,8 +33,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostSuggestionService postSuggestionService;
+    private final StatusCountService statusCountService;
+    private final CategoryCatalog categoryCatalog;
+    private final TagCatalog tagCatalog;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final TokenVersionCache tokenVersionCache;
 
     public static List<String> ALLOWED_SORT_FIELDS =
             List.of("username", "email", "firstname", "lastname", "createdat", "updatedat");
@@ -42,20 +56,17 @@ public class UserService {
         }
     }
 
-    public PageResponse<UserResponse> getAllUsers(RoleType role, Pageable pageable) {
-        Page<User> users;
+    public PageResponse<UserResponse> getAllUsers(RoleType role, Pageable pageable, boolean includeTotal) {
+        Slice<User> users;
 
         if (role != null) {
-            users = userRepository.findByRole(role, pageable);
+            users = includeTotal
+                    ? userRepository.findByRole(role, pageable)
+                    : userRepository.findSliceByRole(role, pageable);
         } else {
-            users = userRepository.findAll(pageable);
+            users = includeTotal ? userRepository.findAll(pageable) : userRepository.findAllBy(pageable);
         }
-        return new PageResponse<>(
-                users.getNumber(),
-                users.getSize(),
-                users.getTotalElements(),
-                users.getTotalPages(),
-                users.stream().map(userMapper::toResponse).toList());
+        return PageResponse.of(users, users.stream().map(userMapper::toResponse).toList());
     }
 
     public UserResponse getCurrentUser(String username) {
@@ -105,6 +116,7 @@ public class UserService {
             existingUser.setBio(request.bio());
         }
 
+        principalCache.evict(existingUser.getUsername());
         return userMapper.toResponse(userRepository.save(existingUser));
     }
 
@@ -112,15 +124,32 @@ public class UserService {
     public UserResponse updateUserRole(UUID userId, RoleType role) {
         User existingUser = findById(userId);
         existingUser.setRole(role);
+        existingUser.setTokenVersion(existingUser.getTokenVersion() + 1);
+        principalCache.evict(existingUser.getUsername());
+        tokenVersionCache.evict(userId);
         return userMapper.toResponse(userRepository.save(existingUser));
     }
 
     @Transactional
     public void deleteUser(UUID userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new ResourceNotFoundException("User not found");
+        User existingUser = findById(userId);
+        // the user's posts and comments go with them by cascade, and so do the comments on those posts
+        List<UUID> postIds = postRepository.findIdsByAuthorId(userId);
+        List<PostStatusCount> deletedPosts = postRepository.countByAuthorIdGroupByStatus(userId);
+        List<CommentStatusCount> deletedComments = commentRepository.countByAuthorOrPostAuthorGroupByStatus(userId);
+        postRepository.decrementCommentCountsForCommentAuthor(userId);
+        if (!postIds.isEmpty()) {
+            userRepository.decrementCommentCountsForPosts(postIds);
         }
         userRepository.deleteById(userId);
+
+        deletedPosts.forEach(count -> statusCountService.adjustPosts(count.getStatus(), -count.getCount()));
+        deletedComments.forEach(count -> statusCountService.adjustComments(count.getStatus(), -count.getCount()));
+        postIds.forEach(postSuggestionService::remove);
+        categoryCatalog.evictAllPostCounts();
+        tagCatalog.evictAllPostCounts();
+        principalCache.evict(existingUser.getUsername());
+        tokenVersionCache.evict(userId);
     }
 
     private User findById(UUID userId) {
@@ -0,0 +1,72 @@
+package com.zenith.utils;
+
+import com.zenith.entities.Post;
+import com.zenith.exceptions.ValidationException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import org.springframework.data.domain.Sort;
+
+public record PostCursor(SortKey sortKey, Sort.Direction direction, String value, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public enum SortKey {
+        CREATED_AT("createdAt"),
+        TITLE("title");
+
+        private final String property;
+
+        SortKey(String property) {
+            this.property = property;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public static SortKey from(String sortBy) {
+            for (SortKey key : values()) {
+                if (key.property.equalsIgnoreCase(sortBy)) {
+                    return key;
+                }
+            }
+            throw new ValidationException("Invalid cursor sort field: " + sortBy);
+        }
+    }
+
+    public static PostCursor after(Post post, SortKey sortKey, Sort.Direction direction) {
+        String value =
+                switch (sortKey) {
+                    case CREATED_AT -> post.getCreatedAt().toString();
+                    case TITLE -> post.getTitle();
+                };
+        return new PostCursor(sortKey, direction, value, post.getId());
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // the value goes last so titles containing the separator survive the split
+            String[] parts = decoded.split("\\" + SEPARATOR, 4);
+            PostCursor postCursor = new PostCursor(
+                    SortKey.valueOf(parts[0]), Sort.Direction.valueOf(parts[1]), parts[3], UUID.fromString(parts[2]));
+            if (postCursor.sortKey == SortKey.CREATED_AT) {
+                postCursor.createdAt();
+            }
+            return postCursor;
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortKey.name(), direction.name(), id.toString(), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(value);
+    }
+}
@@ -0,0 +1,30 @@
+package com.zenith.utils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/** Hands out the rows of one post at a time from a cursor ordered by post id. */
+public final class PostRows<T> {
+
+    private final Iterator<T> rows;
+    private final Function<T, UUID> postId;
+    private T next;
+
+    public PostRows(Iterator<T> rows, Function<T, UUID> postId) {
+        this.rows = rows;
+        this.postId = postId;
+        this.next = rows.hasNext() ? rows.next() : null;
+    }
+
+    public List<T> takeFor(UUID id) {
+        List<T> taken = new ArrayList<>();
+        while (next != null && id.equals(postId.apply(next))) {
+            taken.add(next);
+            next = rows.hasNext() ? rows.next() : null;
+        }
+        return taken;
+    }
+}
@@ -0,0 +1,304 @@
+package com.zenith.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index from lowercase terms to the documents that contain them, answering prefix queries for
+ * typeahead. Documents get dense int ids in insertion order, so postings are sorted int arrays that only ever grow at
+ * the end. A query merges the postings of its rarest prefix newest first, checks each candidate's own terms against
+ * the other prefixes and stops once it has {@code limit} documents. Prefixes shorter than {@link #MIN_PREFIX_LENGTH}
+ * only match whole terms, so one typed letter never walks a large part of the index. Replacing or removing a document
+ * only marks its old id dead; the dead ids are compacted away once they outnumber the live ones.
+ */
+public final class PrefixIndex<T> {
+
+    public static final int MIN_PREFIX_LENGTH = 2;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_DEAD_TO_COMPACT = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<UUID, Integer> docIds = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private Object[] docs = new Object[1024];
+    private String[][] docTerms = new String[1024][];
+    private int nextDoc;
+
+    /** Indexes the document under every term of the given texts, replacing an earlier version with the same key. */
+    public void put(UUID key, T document, Collection<String> texts) {
+        Set<String> documentTerms = new LinkedHashSet<>();
+        texts.forEach(text -> documentTerms.addAll(tokenize(text)));
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            int doc = nextDoc++;
+            if (doc == docs.length) {
+                docs = Arrays.copyOf(docs, docs.length * 2);
+                docTerms = Arrays.copyOf(docTerms, docs.length);
+            }
+            docs[doc] = document;
+            docTerms[doc] = documentTerms.toArray(String[]::new);
+            live.set(doc);
+            docIds.put(key, doc);
+            documentTerms.forEach(term ->
+                    terms.computeIfAbsent(term, ignored -> new Postings()).add(doc));
+            compactIfMostlyDead();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(UUID key) {
+        lock.writeLock().lock();
+        try {
+            boolean removed = removeLocked(key);
+            compactIfMostlyDead();
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} documents matching every term of the query as a prefix, most recently put first. A
+     * replaced document counts from its last {@link #put}, not from when it was first added.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> search(String query, int limit) {
+        List<String> prefixes = tokenize(query);
+        if (prefixes.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<String> distinct = prefixes.stream().distinct().toList();
+            List<Postings> rarest = null;
+            String rarestPrefix = null;
+            long rarestSize = Long.MAX_VALUE;
+            for (String prefix : distinct) {
+                List<Postings> postings = postingsFor(prefix);
+                long size = postings.stream().mapToLong(posting -> posting.size).sum();
+                if (size == 0) {
+                    return List.of();
+                }
+                if (size < rarestSize) {
+                    rarest = postings;
+                    rarestPrefix = prefix;
+                    rarestSize = size;
+                }
+            }
+            String driver = rarestPrefix;
+            List<String> others =
+                    distinct.stream().filter(prefix -> !prefix.equals(driver)).toList();
+
+            List<T> found = new ArrayList<>(limit);
+            DescendingMerge candidates = new DescendingMerge(rarest);
+            for (int doc = candidates.next(); doc >= 0 && found.size() < limit; doc = candidates.next()) {
+                String[] candidateTerms = docTerms[doc];
+                if (live.get(doc) && others.stream().allMatch(prefix -> containsMatch(candidateTerms, prefix))) {
+                    found.add((T) docs[doc]);
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARATORS.split(text.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+
+    private List<Postings> postingsFor(String prefix) {
+        if (prefix.length() < MIN_PREFIX_LENGTH) {
+            Postings exact = terms.get(prefix);
+            return exact != null ? List.of(exact) : List.of();
+        }
+        // every term starting with the prefix sorts between the prefix itself and the prefix followed by the last char
+        return List.copyOf(
+                terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values());
+    }
+
+    private static boolean containsMatch(String[] documentTerms, String prefix) {
+        for (String term : documentTerms) {
+            if (prefix.length() < MIN_PREFIX_LENGTH ? term.equals(prefix) : term.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean removeLocked(UUID key) {
+        Integer doc = docIds.remove(key);
+        if (doc == null) {
+            return false;
+        }
+        live.clear(doc);
+        docs[doc] = null;
+        docTerms[doc] = null;
+        return true;
+    }
+
+    // renumbers the live documents in their current order, so the newest-first order survives
+    private void compactIfMostlyDead() {
+        int liveDocs = docIds.size();
+        int dead = nextDoc - liveDocs;
+        if (dead < MIN_DEAD_TO_COMPACT || dead <= liveDocs) {
+            return;
+        }
+        int[] renumbered = new int[nextDoc];
+        int next = 0;
+        for (int doc = 0; doc < nextDoc; doc++) {
+            if (live.get(doc)) {
+                docs[next] = docs[doc];
+                docTerms[next] = docTerms[doc];
+                renumbered[doc] = next++;
+            } else {
+                renumbered[doc] = -1;
+            }
+        }
+        Arrays.fill(docs, next, nextDoc, null);
+        Arrays.fill(docTerms, next, nextDoc, null);
+        terms.values().removeIf(postings -> postings.retainLive(renumbered) == 0);
+        docIds.replaceAll((key, doc) -> renumbered[doc]);
+        live.clear();
+        live.set(0, next);
+        nextDoc = next;
+    }
+
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        private int retainLive(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = renumbered[docs[i]];
+                if (doc >= 0) {
+                    docs[kept++] = doc;
+                }
+            }
+            size = kept;
+            return size;
+        }
+    }
+
+    /** Walks the union of sorted postings from the highest doc id down, once per doc, through a max-heap of cursors. */
+    private static final class DescendingMerge {
+
+        private final Postings[] heap;
+        private final int[] cursors;
+        private int heapSize;
+        private int last = -1;
+
+        private DescendingMerge(List<Postings> postings) {
+            heap = new Postings[postings.size()];
+            cursors = new int[postings.size()];
+            for (Postings posting : postings) {
+                if (posting.size > 0) {
+                    heap[heapSize] = posting;
+                    cursors[heapSize++] = posting.size - 1;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        /** The next lower doc id, or -1 when every posting is exhausted. */
+        private int next() {
+            while (heapSize > 0) {
+                int doc = current(0);
+                if (cursors[0] > 0) {
+                    cursors[0]--;
+                } else {
+                    heapSize--;
+                    heap[0] = heap[heapSize];
+                    cursors[0] = cursors[heapSize];
+                }
+                siftDown(0);
+                if (doc != last) {
+                    last = doc;
+                    return doc;
+                }
+            }
+            return -1;
+        }
+
+        private int current(int i) {
+            return heap[i].docs[cursors[i]];
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int largest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < heapSize && current(left) > current(largest)) {
+                    largest = left;
+                }
+                if (right < heapSize && current(right) > current(largest)) {
+                    largest = right;
+                }
+                if (largest == i) {
+                    return;
+                }
+                Postings posting = heap[i];
+                heap[i] = heap[largest];
+                heap[largest] = posting;
+                int cursor = cursors[i];
+                cursors[i] = cursors[largest];
+                cursors[largest] = cursor;
+                i = largest;
+            }
+        }
+    }
+}
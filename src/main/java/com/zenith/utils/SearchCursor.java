@@ -0,0 +1,28 @@
+package com.zenith.utils;
+
+import com.zenith.exceptions.ValidationException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+// position after the last search hit: results are ordered by rank, then id, both descending
+public record SearchCursor(float rank, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, 2);
+            return new SearchCursor(Float.parseFloat(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        // Float.toString round-trips exactly, so the next page resumes on the same rank value
+        String raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
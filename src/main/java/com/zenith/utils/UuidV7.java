@@ -0,0 +1,43 @@
+package com.zenith.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by a 12-bit counter and 62 random bits, so
+ * ids generated by this JVM sort in creation order and land at the right edge of B-tree indexes.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // unix millis << 12 | counter; a counter overflow borrows the next millisecond to stay monotonic
+    private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
+    private UuidV7() {}
+
+    public static UUID randomUuid() {
+        long now = System.currentTimeMillis() << 12;
+        long timestamp = LAST_TIMESTAMP.updateAndGet(last -> Math.max(last + 1, now));
+
+        long mostSigBits = (timestamp >>> 12) << 16 | 0x7000L | (timestamp & 0xFFFL);
+        long leastSigBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * An id for a row backdated to the given instant, as written by bulk loads. Ids within one millisecond are not
+     * ordered.
+     */
+    public static UUID forTimestamp(long epochMillis, RandomGenerator random) {
+        long mostSigBits = epochMillis << 16 | 0x7000L | random.nextInt(0x1000);
+        long leastSigBits = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,39 @@
+package com.zenith.utils;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples ranks {@code 0..n-1} with probability proportional to {@code 1 / (rank + 1)^exponent}, the long-tailed shape
+ * of posts per author or posts per tag: a few ranks take most samples. An exponent of 0 is uniform. Keeps the cumulative
+ * distribution and samples by binary search, so it is immutable and safe to share between threads.
+ */
+public final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    public ZipfDistribution(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        // rounding can leave the last cumulative value just below 1
+        return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+}
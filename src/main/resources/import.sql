@@ -0,0 +1,3 @@
+CREATE UNIQUE INDEX IF NOT EXISTS uk_tags_lower_name ON tags (lower(name));
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (setweight(to_tsvector('english', coalesce(title, '')), 'A') || setweight(to_tsvector('english', coalesce(content, '')), 'B')) STORED;
+CREATE INDEX IF NOT EXISTS idx_post_search_vector ON posts USING GIN (search_vector);
@@ -1,11 +1,12 @@
 package com.zenith;
 
 import com.zenith.configs.ApplicationConfig;
+import com.zenith.metrics.QueryStatsDataSourcePostProcessor;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
 @DataJpaTest
-@Import({TestcontainersConfiguration.class, ApplicationConfig.class})
+@Import({TestcontainersConfiguration.class, ApplicationConfig.class, QueryStatsDataSourcePostProcessor.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 public abstract class BaseDataJpaTest {}
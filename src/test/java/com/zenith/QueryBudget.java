@@ -0,0 +1,29 @@
+package com.zenith;
+
+import com.zenith.metrics.QueryStats;
+import java.util.concurrent.Callable;
+
+/**
+ * Fails a test when the code under test runs more SQL statements than its budget, listing the statements it ran. Needs
+ * the data source wrapped by {@code QueryStatsDataSourcePostProcessor}; {@link BaseDataJpaTest} imports it. Works around
+ * MockMvc calls too, which run the request on the calling thread.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {}
+
+    public static <T> T assertAtMost(int statements, Callable<T> action) throws Exception {
+        T result;
+        QueryStats stats;
+        try (QueryStats scope = QueryStats.start(true)) {
+            result = action.call();
+            stats = scope;
+        }
+        if (stats.statements() > statements) {
+            throw new AssertionError("Expected at most %d SQL statements but %d ran:%n  %s"
+                    .formatted(
+                            statements, stats.statements(), String.join(System.lineSeparator() + "  ", stats.sql())));
+        }
+        return result;
+    }
+}
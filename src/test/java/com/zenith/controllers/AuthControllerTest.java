@@ -12,7 +12,11 @@ import com.zenith.dtos.requests.RegisterRequest;
 import com.zenith.dtos.responses.AuthResponse;
 import com.zenith.exceptions.DuplicateResourceException;
 import com.zenith.security.JwtService;
+import com.zenith.security.PrincipalCache;
+import com.zenith.security.TokenVersionCache;
+import com.zenith.security.VerifiedTokenCache;
 import com.zenith.services.AuthService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -29,6 +34,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest(AuthController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(SimpleMeterRegistry.class)
 public class AuthControllerTest {
 
     @Autowired
@@ -40,6 +46,15 @@ public class AuthControllerTest {
     @MockitoBean
     private JwtService jwtService;
 
+    @MockitoBean
+    private PrincipalCache principalCache;
+
+    @MockitoBean
+    private TokenVersionCache tokenVersionCache;
+
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Autowired
     private ObjectMapper objectMapper;
 
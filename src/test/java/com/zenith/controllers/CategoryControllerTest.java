@@ -14,7 +14,11 @@ import com.zenith.exceptions.DuplicateResourceException;
 import com.zenith.exceptions.ResourceNotFoundException;
 import com.zenith.exceptions.ValidationException;
 import com.zenith.security.JwtService;
+import com.zenith.security.PrincipalCache;
+import com.zenith.security.TokenVersionCache;
+import com.zenith.security.VerifiedTokenCache;
 import com.zenith.services.CategoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -26,6 +30,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -34,6 +39,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest(CategoryController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(SimpleMeterRegistry.class)
 public class CategoryControllerTest {
 
     @Autowired
@@ -45,6 +51,15 @@ public class CategoryControllerTest {
     @MockitoBean
     private JwtService jwtService;
 
+    @MockitoBean
+    private PrincipalCache principalCache;
+
+    @MockitoBean
+    private TokenVersionCache tokenVersionCache;
+
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -64,7 +79,7 @@ public class CategoryControllerTest {
     @Test
     @DisplayName("should get all categories successfully")
     void shouldGetAllCategoriesSuccessfully() throws Exception {
-        when(categoryService.getAllCategories(any(PageRequest.class))).thenReturn(pageResponse);
+        when(categoryService.getAllCategories(any(PageRequest.class), eq(true))).thenReturn(pageResponse);
 
         mockMvc.perform(get("/api/v1/categories")
                         .param("page", "0")
@@ -76,6 +91,26 @@ public class CategoryControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
 
+    @Test
+    @DisplayName("should omit totals when include total is false")
+    void shouldOmitTotalsWhenIncludeTotalIsFalse() throws Exception {
+        PageResponse<CategoryResponse> sliceResponse = PageResponse.<CategoryResponse>builder()
+                .pageNumber(0)
+                .pageSize(20)
+                .hasNext(true)
+                .content(List.of(categoryResponse))
+                .build();
+        when(categoryService.getAllCategories(any(PageRequest.class), eq(false)))
+                .thenReturn(sliceResponse);
+
+        mockMvc.perform(get("/api/v1/categories").param("includeTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Technology"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+    }
+
     @Test
     @DisplayName("should return 400 for invalid sort parameters")
     void shouldReturn400ForInvalidSortParameters() throws Exception {
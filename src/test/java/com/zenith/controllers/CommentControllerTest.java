@@ -19,8 +19,12 @@ import com.zenith.exceptions.ForbiddenException;
 import com.zenith.exceptions.ResourceNotFoundException;
 import com.zenith.exceptions.ValidationException;
 import com.zenith.security.JwtService;
+import com.zenith.security.PrincipalCache;
 import com.zenith.security.SecurityUser;
+import com.zenith.security.TokenVersionCache;
+import com.zenith.security.VerifiedTokenCache;
 import com.zenith.services.CommentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -44,7 +48,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest(CommentController.class)
 @AutoConfigureMockMvc
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, SimpleMeterRegistry.class})
 public class CommentControllerTest {
 
     @Autowired
@@ -56,6 +60,15 @@ public class CommentControllerTest {
     @MockitoBean
     private JwtService jwtService;
 
+    @MockitoBean
+    private PrincipalCache principalCache;
+
+    @MockitoBean
+    private TokenVersionCache tokenVersionCache;
+
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
     @MockitoBean
     private UserDetailsService userDetailsService;
 
@@ -111,7 +124,8 @@ public class CommentControllerTest {
     @Test
     @DisplayName("should get comments for post successfully")
     void shouldGetCommentsForPostSuccessfully() throws Exception {
-        when(commentService.getAllComments(eq(postId), any(PageRequest.class))).thenReturn(pageResponse);
+        when(commentService.getAllComments(eq(postId), any(PageRequest.class), eq(true)))
+                .thenReturn(pageResponse);
 
         mockMvc.perform(get("/api/v1/posts/{postId}/comments", postId)
                         .param("page", "0")
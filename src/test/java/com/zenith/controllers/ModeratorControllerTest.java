@@ -2,6 +2,7 @@ package com.zenith.controllers;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -16,8 +17,12 @@ import com.zenith.enums.PostStatus;
 import com.zenith.exceptions.ResourceNotFoundException;
 import com.zenith.exceptions.ValidationException;
 import com.zenith.security.JwtService;
+import com.zenith.security.PrincipalCache;
+import com.zenith.security.TokenVersionCache;
+import com.zenith.security.VerifiedTokenCache;
 import com.zenith.services.CommentService;
 import com.zenith.services.PostService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -29,6 +34,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -36,6 +42,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest(ModeratorController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(SimpleMeterRegistry.class)
 public class ModeratorControllerTest {
 
     @Autowired
@@ -44,6 +51,15 @@ public class ModeratorControllerTest {
     @MockitoBean
     private JwtService jwtService;
 
+    @MockitoBean
+    private PrincipalCache principalCache;
+
+    @MockitoBean
+    private TokenVersionCache tokenVersionCache;
+
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
     @MockitoBean
     private PostService postService;
 
@@ -119,7 +135,7 @@ public class ModeratorControllerTest {
     @Test
     @DisplayName("should get posts by status successfully")
     void shouldGetPostsByStatusSuccessfully() throws Exception {
-        when(postService.getPostsByStatus(any(PostStatus.class), any(PageRequest.class)))
+        when(postService.getPostsByStatus(any(PostStatus.class), any(PageRequest.class), eq(true)))
                 .thenReturn(postPageResponse);
 
         mockMvc.perform(get("/api/v1/moderator/posts")
@@ -198,7 +214,7 @@ public class ModeratorControllerTest {
     @Test
     @DisplayName("should get comments by status successfully")
     void shouldGetCommentsByStatusSuccessfully() throws Exception {
-        when(commentService.getCommentsByStatus(any(CommentStatus.class), any(PageRequest.class)))
+        when(commentService.getCommentsByStatus(any(CommentStatus.class), any(PageRequest.class), eq(true)))
                 .thenReturn(commentPageResponse);
 
         mockMvc.perform(get("/api/v1/moderator/comments")
@@ -9,19 +9,32 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zenith.configs.SecurityConfig;
 import com.zenith.dtos.requests.CreatePostRequest;
+import com.zenith.dtos.requests.PostFilter;
 import com.zenith.dtos.requests.UpdatePostRequest;
+import com.zenith.dtos.responses.CursorPageResponse;
 import com.zenith.dtos.responses.PageResponse;
 import com.zenith.dtos.responses.PostResponse;
+import com.zenith.dtos.responses.PostSearchResult;
+import com.zenith.dtos.responses.PostSuggestion;
 import com.zenith.entities.User;
 import com.zenith.enums.PostStatus;
 import com.zenith.enums.RoleType;
+import com.zenith.enums.TagMatch;
 import com.zenith.exceptions.ForbiddenException;
 import com.zenith.exceptions.ResourceNotFoundException;
 import com.zenith.exceptions.UnauthorizedException;
 import com.zenith.exceptions.ValidationException;
 import com.zenith.security.JwtService;
+import com.zenith.security.PrincipalCache;
 import com.zenith.security.SecurityUser;
+import com.zenith.security.TokenVersionCache;
+import com.zenith.security.VerifiedTokenCache;
+import com.zenith.services.PostExportService;
+import com.zenith.services.PostImportService;
 import com.zenith.services.PostService;
+import com.zenith.services.PostSuggestionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
@@ -46,7 +59,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest(PostController.class)
 @AutoConfigureMockMvc
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, SimpleMeterRegistry.class})
 public class PostControllerTest {
 
     @Autowired
@@ -55,9 +68,27 @@ public class PostControllerTest {
     @MockitoBean
     private PostService postService;
 
+    @MockitoBean
+    private PostImportService postImportService;
+
+    @MockitoBean
+    private PostExportService postExportService;
+
+    @MockitoBean
+    private PostSuggestionService postSuggestionService;
+
     @MockitoBean
     private JwtService jwtService;
 
+    @MockitoBean
+    private PrincipalCache principalCache;
+
+    @MockitoBean
+    private TokenVersionCache tokenVersionCache;
+
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
     @MockitoBean
     private UserDetailsService userDetailsService;
 
@@ -136,7 +167,7 @@ public class PostControllerTest {
     @Test
     @DisplayName("should get published posts successfully")
     void shouldGetPublishedPostsSuccessfully() throws Exception {
-        when(postService.getPublishedPosts(any(), any(), any(PageRequest.class)))
+        when(postService.getPublishedPosts(any(), any(PageRequest.class), eq(true)))
                 .thenReturn(pageResponse);
 
         mockMvc.perform(get("/api/v1/posts")
@@ -152,7 +183,8 @@ public class PostControllerTest {
     @Test
     @DisplayName("should get published posts filtered by category")
     void shouldGetPublishedPostsFilteredByCategory() throws Exception {
-        when(postService.getPublishedPosts(eq(categoryId), any(), any(PageRequest.class)))
+        when(postService.getPublishedPosts(
+                        argThat(filter -> categoryId.equals(filter.categoryId())), any(PageRequest.class), eq(true)))
                 .thenReturn(new PageResponse<>(0, 20, 1, 1, List.of(publishedPostResponse)));
 
         mockMvc.perform(get("/api/v1/posts")
@@ -164,19 +196,108 @@ public class PostControllerTest {
     }
 
     @Test
-    @DisplayName("should get published posts filtered by tag")
-    void shouldGetPublishedPostsFilteredByTag() throws Exception {
-        when(postService.getPublishedPosts(any(), eq("spring"), any(PageRequest.class)))
+    @DisplayName("should get published posts filtered by tags, author and creation range")
+    void shouldGetPublishedPostsFilteredByTagsAuthorAndCreationRange() throws Exception {
+        UUID authorId = UUID.randomUUID();
+        PostFilter expected = new PostFilter(
+                null,
+                Set.of("spring", "java"),
+                TagMatch.ALL,
+                authorId,
+                LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 1, 1, 0, 0));
+        when(postService.getPublishedPosts(eq(expected), any(PageRequest.class), eq(true)))
                 .thenReturn(new PageResponse<>(0, 20, 1, 1, List.of(publishedPostResponse)));
 
         mockMvc.perform(get("/api/v1/posts")
-                        .param("tag", "spring")
-                        .param("page", "0")
-                        .param("size", "20"))
+                        .param("tag", "spring", "java")
+                        .param("tagMatch", "ALL")
+                        .param("authorId", authorId.toString())
+                        .param("createdFrom", "2024-01-01T00:00:00")
+                        .param("createdTo", "2025-01-01T00:00:00"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].title").value("Published Post"));
     }
 
+    @Test
+    @DisplayName("should return 400 for an unknown tag match mode")
+    void shouldReturn400ForUnknownTagMatch() throws Exception {
+        mockMvc.perform(get("/api/v1/posts").param("tag", "spring").param("tagMatch", "SOME"))
+                .andExpect(status().isBadRequest());
+
+        verify(postService, never()).getPublishedPosts(any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("should get published posts by cursor")
+    void shouldGetPublishedPostsByCursor() throws Exception {
+        when(postService.getPublishedPostsByCursor("abc", 20, "title", "DESC"))
+                .thenReturn(new CursorPageResponse<>(20, true, "def", List.of(publishedPostResponse)));
+
+        mockMvc.perform(get("/api/v1/posts/cursor")
+                        .param("cursor", "abc")
+                        .param("size", "20")
+                        .param("sortBy", "title")
+                        .param("sortDirection", "DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Published Post"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    @DisplayName("should search published posts")
+    void shouldSearchPublishedPosts() throws Exception {
+        PostSearchResult hit = new PostSearchResult(
+                postId,
+                "Published Post",
+                "about <mark>spring</mark>",
+                0.6f,
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                LocalDateTime.now());
+        when(postService.searchPublishedPosts("spring boot", "abc", 10))
+                .thenReturn(new CursorPageResponse<>(10, false, null, List.of(hit)));
+
+        mockMvc.perform(get("/api/v1/posts/search")
+                        .param("q", "spring boot")
+                        .param("cursor", "abc")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Published Post"))
+                .andExpect(jsonPath("$.content[0].snippet").value("about <mark>spring</mark>"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("should return 400 when search terms are blank")
+    void shouldReturn400WhenSearchTermsAreBlank() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/search").param("q", " ")).andExpect(status().isBadRequest());
+
+        verify(postService, never()).searchPublishedPosts(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should suggest published posts")
+    void shouldSuggestPublishedPosts() throws Exception {
+        when(postSuggestionService.suggest("spr bo", 5))
+                .thenReturn(List.of(new PostSuggestion(postId, "Getting Started with Spring Boot")));
+
+        mockMvc.perform(get("/api/v1/posts/suggest").param("q", "spr bo").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].postId").value(postId.toString()))
+                .andExpect(jsonPath("$[0].title").value("Getting Started with Spring Boot"));
+    }
+
+    @Test
+    @DisplayName("should return 400 when too many suggestions are requested")
+    void shouldReturn400WhenTooManySuggestionsRequested() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/suggest").param("q", "spr").param("size", "51"))
+                .andExpect(status().isBadRequest());
+
+        verify(postSuggestionService, never()).suggest(any(), anyInt());
+    }
+
     @Test
     @DisplayName("should return 400 for invalid pagination parameters")
     void shouldReturn400ForInvalidPaginationParameters() throws Exception {
@@ -265,7 +386,7 @@ public class PostControllerTest {
                 new TestingAuthenticationToken(securityUser, null, securityUser.getAuthorities());
         authentication.setAuthenticated(true);
 
-        when(postService.getMyPosts(eq("testuser"), any(), any(PageRequest.class)))
+        when(postService.getMyPosts(eq("testuser"), any(), any(PageRequest.class), eq(true)))
                 .thenReturn(pageResponse);
 
         mockMvc.perform(get("/api/v1/posts/my")
@@ -285,7 +406,7 @@ public class PostControllerTest {
                 new TestingAuthenticationToken(securityUser, null, securityUser.getAuthorities());
         authentication.setAuthenticated(true);
 
-        when(postService.getMyPosts(eq("testuser"), eq(PostStatus.DRAFT), any(PageRequest.class)))
+        when(postService.getMyPosts(eq("testuser"), eq(PostStatus.DRAFT), any(PageRequest.class), eq(true)))
                 .thenReturn(new PageResponse<>(0, 20, 1, 1, List.of(postResponse)));
 
         mockMvc.perform(get("/api/v1/posts/my")
@@ -305,7 +426,7 @@ public class PostControllerTest {
                 new TestingAuthenticationToken(securityUser, null, securityUser.getAuthorities());
         authentication.setAuthenticated(true);
 
-        when(postService.getMyPosts(any(), any(), any(PageRequest.class)))
+        when(postService.getMyPosts(any(), any(), any(PageRequest.class), eq(true)))
                 .thenThrow(new UnauthorizedException("You are not allowed to view this post"));
 
         mockMvc.perform(get("/api/v1/posts/my").with(authentication(authentication)))
@@ -505,4 +626,94 @@ public class PostControllerTest {
     void shouldReturn401WhenUserNotAuthenticatedForDeletePost() throws Exception {
         mockMvc.perform(delete("/api/v1/posts/{postId}", postId)).andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @DisplayName("should stream NDJSON import to the import service when user is admin")
+    void shouldImportPostsWhenUserIsAdmin() throws Exception {
+        User admin = User.builder()
+                .username("admin")
+                .email("admin@example.com")
+                .password("password")
+                .role(RoleType.ADMIN)
+                .build();
+        SecurityUser securityUser = new SecurityUser(admin);
+        Authentication authentication =
+                new TestingAuthenticationToken(securityUser, null, securityUser.getAuthorities());
+        authentication.setAuthenticated(true);
+
+        doAnswer(invocation -> {
+                    invocation
+                            .getArgument(2, OutputStream.class)
+                            .write("{\"line\":1,\"status\":\"CREATED\"}\n".getBytes());
+                    return null;
+                })
+                .when(postImportService)
+                .importPosts(eq("admin"), any(), any());
+
+        mockMvc.perform(post("/api/v1/posts/import")
+                        .with(authentication(authentication))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(objectMapper.writeValueAsString(createPostRequest) + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"line\":1,\"status\":\"CREATED\"}\n"));
+    }
+
+    @Test
+    @DisplayName("should return 403 when non-admin user imports posts")
+    void shouldReturn403WhenNonAdminImportsPosts() throws Exception {
+        SecurityUser securityUser = new SecurityUser(user);
+        Authentication authentication =
+                new TestingAuthenticationToken(securityUser, null, securityUser.getAuthorities());
+        authentication.setAuthenticated(true);
+
+        mockMvc.perform(post("/api/v1/posts/import")
+                        .with(authentication(authentication))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(objectMapper.writeValueAsString(createPostRequest) + "\n"))
+                .andExpect(status().isForbidden());
+
+        verify(postImportService, never()).importPosts(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should stream published post export when user is admin")
+    void shouldExportPostsWhenUserIsAdmin() throws Exception {
+        User admin = User.builder()
+                .username("admin")
+                .email("admin@example.com")
+                .password("password")
+                .role(RoleType.ADMIN)
+                .build();
+        SecurityUser securityUser = new SecurityUser(admin);
+        Authentication authentication =
+                new TestingAuthenticationToken(securityUser, null, securityUser.getAuthorities());
+        authentication.setAuthenticated(true);
+
+        doAnswer(invocation -> {
+                    invocation.getArgument(0, OutputStream.class).write("{\"title\":\"Test\"}\n".getBytes());
+                    return null;
+                })
+                .when(postExportService)
+                .exportPublishedPosts(any());
+
+        mockMvc.perform(get("/api/v1/posts/export").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"title\":\"Test\"}\n"));
+    }
+
+    @Test
+    @DisplayName("should return 403 when non-admin user exports posts")
+    void shouldReturn403WhenNonAdminExportsPosts() throws Exception {
+        SecurityUser securityUser = new SecurityUser(user);
+        Authentication authentication =
+                new TestingAuthenticationToken(securityUser, null, securityUser.getAuthorities());
+        authentication.setAuthenticated(true);
+
+        mockMvc.perform(get("/api/v1/posts/export").with(authentication(authentication)))
+                .andExpect(status().isForbidden());
+
+        verify(postExportService, never()).exportPublishedPosts(any());
+    }
 }
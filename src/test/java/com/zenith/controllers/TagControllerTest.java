@@ -1,5 +1,6 @@
 package com.zenith.controllers;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
@@ -15,7 +16,12 @@ import com.zenith.exceptions.DuplicateResourceException;
 import com.zenith.exceptions.ResourceNotFoundException;
 import com.zenith.exceptions.ValidationException;
 import com.zenith.security.JwtService;
+import com.zenith.security.PrincipalCache;
+import com.zenith.security.TokenVersionCache;
+import com.zenith.security.VerifiedTokenCache;
 import com.zenith.services.TagService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -27,6 +33,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -35,6 +42,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest(TagController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(SimpleMeterRegistry.class)
 public class TagControllerTest {
 
     @Autowired
@@ -46,9 +54,21 @@ public class TagControllerTest {
     @MockitoBean
     private JwtService jwtService;
 
+    @MockitoBean
+    private PrincipalCache principalCache;
+
+    @MockitoBean
+    private TokenVersionCache tokenVersionCache;
+
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private TagRequest tagRequest;
     private TagResponse tagResponse;
     private PageResponse<TagResponse> pageResponse;
@@ -65,7 +85,7 @@ public class TagControllerTest {
     @Test
     @DisplayName("should get all tags successfully")
     void shouldGetAllTagsSuccessfully() throws Exception {
-        when(tagService.getAllTags(any(PageRequest.class))).thenReturn(pageResponse);
+        when(tagService.getAllTags(any(PageRequest.class), eq(true))).thenReturn(pageResponse);
 
         mockMvc.perform(get("/api/v1/tags")
                         .param("page", "0")
@@ -141,6 +161,34 @@ public class TagControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("should count handled errors by exception type and status")
+    void shouldCountHandledErrors() throws Exception {
+        meterRegistry.clear();
+        when(tagService.getTagById(tagId)).thenThrow(new ResourceNotFoundException("Tag not found"));
+
+        mockMvc.perform(get("/api/v1/tags/{tagId}", tagId)).andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/v1/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TagRequest(""))))
+                .andExpect(status().isBadRequest());
+
+        assertThat(meterRegistry
+                        .get("api.errors")
+                        .tag("exception", "ResourceNotFoundException")
+                        .tag("status", "404")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("api.errors")
+                        .tag("exception", "MethodArgumentNotValidException")
+                        .tag("status", "400")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
     @Test
     @DisplayName("should update tag successfully")
     void shouldUpdateTagSuccessfully() throws Exception {
@@ -18,8 +18,12 @@ import com.zenith.exceptions.ForbiddenException;
 import com.zenith.exceptions.ResourceNotFoundException;
 import com.zenith.exceptions.ValidationException;
 import com.zenith.security.JwtService;
+import com.zenith.security.PrincipalCache;
 import com.zenith.security.SecurityUser;
+import com.zenith.security.TokenVersionCache;
+import com.zenith.security.VerifiedTokenCache;
 import com.zenith.services.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -44,7 +48,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest(UserController.class)
 @AutoConfigureMockMvc
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, SimpleMeterRegistry.class})
 public class UserControllerTest {
 
     @Autowired
@@ -56,6 +60,15 @@ public class UserControllerTest {
     @MockitoBean
     private JwtService jwtService;
 
+    @MockitoBean
+    private PrincipalCache principalCache;
+
+    @MockitoBean
+    private TokenVersionCache tokenVersionCache;
+
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
     @MockitoBean
     private UserDetailsService userDetailsService;
 
@@ -117,7 +130,7 @@ public class UserControllerTest {
     @DisplayName("should get all users successfully")
     @WithMockUser(roles = "ADMIN")
     void shouldGetAllUsersSuccessfully() throws Exception {
-        when(userService.getAllUsers(any(), any(PageRequest.class))).thenReturn(pageResponse);
+        when(userService.getAllUsers(any(), any(PageRequest.class), eq(true))).thenReturn(pageResponse);
 
         mockMvc.perform(get("/api/v1/users")
                         .param("page", "0")
@@ -133,7 +146,7 @@ public class UserControllerTest {
     @DisplayName("should get all users filtered by role")
     @WithMockUser(roles = "ADMIN")
     void shouldGetAllUsersFilteredByRole() throws Exception {
-        when(userService.getAllUsers(eq(RoleType.USER), any(PageRequest.class)))
+        when(userService.getAllUsers(eq(RoleType.USER), any(PageRequest.class), eq(true)))
                 .thenReturn(new PageResponse<>(0, 20, 1, 1, List.of(userResponse)));
 
         mockMvc.perform(get("/api/v1/users")
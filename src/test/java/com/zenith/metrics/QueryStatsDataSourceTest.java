@@ -0,0 +1,136 @@
+package com.zenith.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class QueryStatsDataSourceTest {
+
+    private static final String SELECT = "SELECT id FROM posts WHERE status = ?";
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private QueryStatsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new QueryStatsDataSource(target);
+    }
+
+    @Test
+    @DisplayName("should count executed statements and fetched rows in the open scope")
+    void shouldCountStatementsAndRows() throws Exception {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SELECT)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        // Act
+        QueryStats stats;
+        try (QueryStats scope = QueryStats.start(true)) {
+            stats = scope;
+            try (Connection proxied = dataSource.getConnection();
+                    PreparedStatement statement = proxied.prepareStatement(SELECT)) {
+                statement.setString(1, "PUBLISHED");
+                ResultSet rows = statement.executeQuery();
+                while (rows.next()) {
+                    rows.getString(1);
+                }
+            }
+        }
+
+        // Assert
+        assertThat(stats.statements()).isEqualTo(1);
+        assertThat(stats.rows()).isEqualTo(2);
+        assertThat(stats.sql()).containsExactly(SELECT);
+        verify(preparedStatement).setString(1, "PUBLISHED");
+        verify(resultSet, times(2)).getString(1);
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("should take the SQL of a plain statement from the execute call")
+    void shouldCaptureSqlOfPlainStatement() throws Exception {
+        // Arrange
+        Statement plainStatement = mock(Statement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(plainStatement);
+
+        // Act
+        QueryStats stats;
+        try (QueryStats scope = QueryStats.start(true)) {
+            stats = scope;
+            dataSource.getConnection().createStatement().execute("ANALYZE");
+        }
+
+        // Assert
+        assertThat(stats.statements()).isEqualTo(1);
+        assertThat(stats.sql()).containsExactly("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("should pass calls through without recording when no scope is open")
+    void shouldNotRecordWithoutScope() throws Exception {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SELECT)).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(3);
+
+        // Act
+        int updated = dataSource.getConnection().prepareStatement(SELECT).executeUpdate();
+
+        // Assert
+        assertThat(updated).isEqualTo(3);
+        assertThat(QueryStats.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("should add the numbers of a nested scope to the enclosing one on close")
+    void shouldMergeNestedScopes() throws Exception {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SELECT)).thenReturn(preparedStatement);
+
+        // Act
+        QueryStats outer;
+        QueryStats inner;
+        try (QueryStats outerScope = QueryStats.start(true)) {
+            outer = outerScope;
+            dataSource.getConnection().prepareStatement(SELECT).executeUpdate();
+            try (QueryStats innerScope = QueryStats.start()) {
+                inner = innerScope;
+                dataSource.getConnection().prepareStatement(SELECT).executeUpdate();
+            }
+            assertThat(QueryStats.current()).isSameAs(outer);
+        }
+
+        // Assert
+        assertThat(inner.statements()).isEqualTo(1);
+        assertThat(outer.statements()).isEqualTo(2);
+        assertThat(outer.sql()).containsExactly(SELECT, SELECT);
+        assertThat(QueryStats.current()).isNull();
+    }
+}
@@ -0,0 +1,119 @@
+package com.zenith.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class QueryStatsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        request = new MockHttpServletRequest("GET", "/api/v1/posts");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("should record the request's statements, rows and JDBC time under the handling controller method")
+    void shouldRecordMetersPerHandler() throws Exception {
+        // Arrange
+        QueryStatsFilter filter = new QueryStatsFilter(meterRegistry, false);
+
+        // Act
+        filter.doFilter(request, response, handler(3, 20));
+
+        // Assert
+        assertThat(meterRegistry
+                        .get("request.sql.statements")
+                        .tag("controller", "TestController")
+                        .tag("method", "list")
+                        .summary()
+                        .totalAmount())
+                .isEqualTo(3);
+        assertThat(meterRegistry
+                        .get("request.sql.rows")
+                        .tag("controller", "TestController")
+                        .summary()
+                        .totalAmount())
+                .isEqualTo(20);
+        assertThat(meterRegistry.get("request.sql.time").timer().count()).isEqualTo(1);
+        assertThat(response.getHeader(QueryStatsFilter.SERVER_TIMING)).isNull();
+        assertThat(QueryStats.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("should report the request's SQL numbers in a Server-Timing header before the body is written")
+    void shouldAddServerTimingHeader() throws Exception {
+        // Arrange
+        QueryStatsFilter filter = new QueryStatsFilter(meterRegistry, true);
+
+        // Act
+        filter.doFilter(request, response, handler(2, 5));
+
+        // Assert
+        assertThat(response.getHeader(QueryStatsFilter.SERVER_TIMING))
+                .startsWith("sql;dur=")
+                .endsWith(";desc=\"statements: 2, rows: 5\"");
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("should add the Server-Timing header to responses without a body")
+    void shouldAddServerTimingHeaderWithoutBody() throws Exception {
+        // Arrange
+        QueryStatsFilter filter = new QueryStatsFilter(meterRegistry, true);
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> QueryStats.current().recordStatement("DELETE", 1_000));
+
+        // Assert
+        assertThat(response.getHeader(QueryStatsFilter.SERVER_TIMING)).contains("statements: 1, rows: 0");
+    }
+
+    @Test
+    @DisplayName("should not record meters for requests that no controller handled")
+    void shouldSkipMetersWithoutHandler() throws Exception {
+        // Arrange
+        QueryStatsFilter filter = new QueryStatsFilter(meterRegistry, false);
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> QueryStats.current().recordStatement("SELECT 1", 1_000));
+
+        // Assert
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    private static FilterChain handler(int statements, int rows) throws NoSuchMethodException {
+        HandlerMethod handlerMethod = new HandlerMethod(new TestController(), "list");
+        return (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handlerMethod);
+            QueryStats stats = QueryStats.current();
+            for (int i = 0; i < statements; i++) {
+                stats.recordStatement("SELECT", 1_000_000);
+            }
+            for (int i = 0; i < rows; i++) {
+                stats.recordFetch(true, 1_000);
+            }
+            res.getWriter().write("[]");
+        };
+    }
+
+    static class TestController {
+
+        public String list() {
+            return "[]";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.zenith.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.zenith.exceptions.ValidationException;
+import com.zenith.services.TagService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+public class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TagService tagService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TagService(null, null, null));
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        tagService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("should time service calls under the service and method name")
+    void shouldTimeServiceCalls() {
+        // Act
+        tagService.validateSortParams("name", "asc");
+        tagService.validateSortParams("createdAt", "desc");
+
+        // Assert
+        assertThat(meterRegistry
+                        .get(ServiceMetricsAspect.METRIC)
+                        .tag("service", "TagService")
+                        .tag("method", "validateSortParams")
+                        .tag("exception", "none")
+                        .timer()
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should tag failed calls with the exception type and rethrow it")
+    void shouldTagFailedCallsWithException() {
+        // Act & Assert
+        assertThatThrownBy(() -> tagService.validateSortParams("unknown", "asc"))
+                .isInstanceOf(ValidationException.class);
+        assertThat(meterRegistry
+                        .get(ServiceMetricsAspect.METRIC)
+                        .tag("method", "validateSortParams")
+                        .tag("exception", "ValidationException")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+}
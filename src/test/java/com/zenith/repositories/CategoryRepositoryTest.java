@@ -20,6 +20,21 @@ public class CategoryRepositoryTest extends BaseDataJpaTest {
         categoryRepository.deleteAll();
     }
 
+    @Test
+    @DisplayName("should assign time-ordered UUIDv7 ids on persist")
+    void shouldAssignTimeOrderedIds() {
+        // Act
+        List<Category> saved = categoryRepository.saveAll(List.of(
+                Category.builder().name("First").build(),
+                Category.builder().name("Second").build()));
+
+        // Assert
+        assertThat(saved)
+                .allSatisfy(category -> assertThat(category.getId().version()).isEqualTo(7));
+        assertThat(saved.get(0).getId().toString())
+                .isLessThan(saved.get(1).getId().toString());
+    }
+
     @Test
     @DisplayName("should return true when category exists with exact name")
     void shouldReturnTrueWhenCategoryExistsWithExactName() {
@@ -1,6 +1,7 @@
 package com.zenith.repositories;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.zenith.BaseDataJpaTest;
 import com.zenith.entities.Category;
@@ -8,8 +9,11 @@ import com.zenith.entities.Comment;
 import com.zenith.entities.Post;
 import com.zenith.entities.User;
 import com.zenith.enums.CommentStatus;
+import com.zenith.repositories.projections.CommentStatusCount;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -163,79 +167,232 @@ public class CommentRepositoryTest extends BaseDataJpaTest {
     }
 
     @Test
-    @DisplayName("should delete archived comments older than cutoff date")
-    void shouldDeleteArchivedCommentsOlderThanCutoffDate() {
+    @DisplayName("should count comments by status")
+    void shouldCountCommentsByStatus() {
         // Arrange
-        LocalDateTime futureCutoffDate = LocalDateTime.now().plusDays(1);
+        commentRepository.saveAll(List.of(
+                Comment.builder()
+                        .content("Approved comment")
+                        .status(CommentStatus.APPROVED)
+                        .post(testPost)
+                        .author(testUser)
+                        .build(),
+                Comment.builder()
+                        .content("Pending comment")
+                        .status(CommentStatus.PENDING)
+                        .post(testPost)
+                        .author(testUser)
+                        .build()));
+
+        // Act & Assert
+        assertThat(commentRepository.countByStatus(CommentStatus.APPROVED)).isEqualTo(1);
+        assertThat(commentRepository.countByStatus(CommentStatus.REJECTED)).isZero();
+    }
 
-        Comment archivedComment = Comment.builder()
-                .content("Archived comment")
-                .status(CommentStatus.ARCHIVED)
+    @Test
+    @DisplayName("should read planner row estimate for the comments table")
+    void shouldReadPlannerRowEstimate() {
+        // Act
+        long estimate = commentRepository.estimateRowCount();
+
+        // Assert
+        // -1 means the table has never been analyzed
+        assertThat(estimate).isGreaterThanOrEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("should stream only approved comments of published posts")
+    void shouldStreamApprovedCommentsOfPublishedPosts() {
+        // Arrange
+        Post draftPost = Post.builder()
+                .title("Draft Post")
+                .content("Draft content")
+                .status(com.zenith.enums.PostStatus.DRAFT)
+                .author(testUser)
+                .category(testPost.getCategory())
+                .build();
+        postRepository.save(draftPost);
+        Comment approved = Comment.builder()
+                .content("Approved comment")
+                .status(CommentStatus.APPROVED)
                 .post(testPost)
                 .author(testUser)
                 .build();
-        commentRepository.save(archivedComment);
+        commentRepository.saveAll(List.of(
+                approved,
+                Comment.builder()
+                        .content("Pending comment")
+                        .status(CommentStatus.PENDING)
+                        .post(testPost)
+                        .author(testUser)
+                        .build(),
+                Comment.builder()
+                        .content("Approved on draft")
+                        .status(CommentStatus.APPROVED)
+                        .post(draftPost)
+                        .author(testUser)
+                        .build()));
 
-        Comment pendingComment = Comment.builder()
+        // Act
+        List<Comment> result;
+        try (Stream<Comment> comments = commentRepository.streamApprovedOfPublishedPosts()) {
+            result = comments.toList();
+        }
+
+        // Assert
+        assertThat(result).extracting(Comment::getId).containsExactly(approved.getId());
+    }
+
+    @Test
+    @DisplayName("should lock a bounded chunk of archived comment ids older than cutoff date")
+    void shouldLockArchivedCommentIdsOlderThanCutoffDate() {
+        // Arrange
+        List<Comment> archived = commentRepository.saveAll(List.of(
+                Comment.builder()
+                        .content("Archived comment 1")
+                        .status(CommentStatus.ARCHIVED)
+                        .post(testPost)
+                        .author(testUser)
+                        .build(),
+                Comment.builder()
+                        .content("Archived comment 2")
+                        .status(CommentStatus.ARCHIVED)
+                        .post(testPost)
+                        .author(testUser)
+                        .build()));
+        commentRepository.save(Comment.builder()
                 .content("Pending comment")
                 .status(CommentStatus.PENDING)
                 .post(testPost)
                 .author(testUser)
-                .build();
-        commentRepository.save(pendingComment);
+                .build());
+        LocalDateTime futureCutoffDate = LocalDateTime.now().plusDays(1);
 
-        // Act - this should delete the archived comment since its updatedAt is in the past relative to futureCutoffDate
-        Long deletedCount = commentRepository.deleteArchivedCommentsOlderThan(futureCutoffDate);
+        // Act
+        List<UUID> chunk = commentRepository.lockArchivedIdsOlderThan(futureCutoffDate, 1);
+        List<UUID> all = commentRepository.lockArchivedIdsOlderThan(futureCutoffDate, 10);
+        List<UUID> none =
+                commentRepository.lockArchivedIdsOlderThan(LocalDateTime.now().minusDays(30), 10);
 
         // Assert
-        assertThat(deletedCount).isEqualTo(1);
-        assertThat(commentRepository.findAll()).hasSize(1);
-        assertThat(commentRepository.findAll())
-                .noneMatch(comment -> comment.getContent().equals("Archived comment"));
+        assertThat(chunk).hasSize(1);
+        assertThat(all)
+                .containsExactlyInAnyOrderElementsOf(
+                        archived.stream().map(Comment::getId).toList());
+        assertThat(none).isEmpty();
     }
 
     @Test
-    @DisplayName("should return zero when no archived comments to delete")
-    void shouldReturnZeroWhenNoArchivedCommentsToDelete() {
+    @DisplayName("should count comments of posts by status and delete them by post id")
+    void shouldCountAndDeleteCommentsByPostIds() {
         // Arrange
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
+        commentRepository.saveAll(List.of(
+                Comment.builder()
+                        .content("Approved comment")
+                        .status(CommentStatus.APPROVED)
+                        .post(testPost)
+                        .author(testUser)
+                        .build(),
+                Comment.builder()
+                        .content("Another approved comment")
+                        .status(CommentStatus.APPROVED)
+                        .post(testPost)
+                        .author(testUser)
+                        .build(),
+                Comment.builder()
+                        .content("Pending comment")
+                        .status(CommentStatus.PENDING)
+                        .post(testPost)
+                        .author(testUser)
+                        .build()));
 
-        Comment recentArchivedComment = Comment.builder()
-                .content("Recent archived comment")
-                .status(CommentStatus.ARCHIVED)
-                .post(testPost)
-                .author(testUser)
-                .build();
-        recentArchivedComment.setUpdatedAt(cutoffDate.plusDays(1));
-        commentRepository.save(recentArchivedComment);
+        // Act
+        List<CommentStatusCount> counts = commentRepository.countByPostIdInGroupByStatus(List.of(testPost.getId()));
+        int deleted = commentRepository.deleteByPostIdIn(List.of(testPost.getId()));
+
+        // Assert
+        assertThat(counts)
+                .extracting(CommentStatusCount::getStatus, CommentStatusCount::getCount)
+                .containsExactlyInAnyOrder(tuple(CommentStatus.APPROVED, 2L), tuple(CommentStatus.PENDING, 1L));
+        assertThat(deleted).isEqualTo(3);
+        assertThat(commentRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should count a user's comments and the comments on their posts by status")
+    void shouldCountByAuthorOrPostAuthorGroupByStatus() {
+        // Arrange
+        User otherUser = userRepository.save(User.builder()
+                .username("otheruser")
+                .email("other@example.com")
+                .password("password")
+                .role(com.zenith.enums.RoleType.USER)
+                .build());
+        Post otherPost = postRepository.save(Post.builder()
+                .title("Other Post")
+                .content("Other content")
+                .status(com.zenith.enums.PostStatus.PUBLISHED)
+                .author(otherUser)
+                .category(testPost.getCategory())
+                .build());
+        commentRepository.saveAll(List.of(
+                Comment.builder()
+                        .content("Own comment on own post")
+                        .status(CommentStatus.APPROVED)
+                        .post(testPost)
+                        .author(testUser)
+                        .build(),
+                Comment.builder()
+                        .content("Own comment on other post")
+                        .status(CommentStatus.APPROVED)
+                        .post(otherPost)
+                        .author(testUser)
+                        .build(),
+                Comment.builder()
+                        .content("Other comment on own post")
+                        .status(CommentStatus.PENDING)
+                        .post(testPost)
+                        .author(otherUser)
+                        .build(),
+                Comment.builder()
+                        .content("Unrelated comment")
+                        .status(CommentStatus.APPROVED)
+                        .post(otherPost)
+                        .author(otherUser)
+                        .build()));
 
         // Act
-        Long deletedCount = commentRepository.deleteArchivedCommentsOlderThan(cutoffDate);
+        List<CommentStatusCount> counts = commentRepository.countByAuthorOrPostAuthorGroupByStatus(testUser.getId());
 
         // Assert
-        assertThat(deletedCount).isEqualTo(0);
-        assertThat(commentRepository.findAll()).hasSize(1);
+        assertThat(counts)
+                .extracting(CommentStatusCount::getStatus, CommentStatusCount::getCount)
+                .containsExactlyInAnyOrder(tuple(CommentStatus.APPROVED, 2L), tuple(CommentStatus.PENDING, 1L));
     }
 
     @Test
-    @DisplayName("should delete archived comments older than days")
-    void shouldDeleteArchivedCommentsOlderThanDays() {
+    @DisplayName("should delete comments by ids")
+    void shouldDeleteCommentsByIds() {
         // Arrange
-        Comment archivedComment = Comment.builder()
+        Comment archivedComment = commentRepository.save(Comment.builder()
                 .content("Archived comment")
                 .status(CommentStatus.ARCHIVED)
                 .post(testPost)
                 .author(testUser)
-                .build();
-        commentRepository.save(archivedComment);
+                .build());
+        commentRepository.save(Comment.builder()
+                .content("Pending comment")
+                .status(CommentStatus.PENDING)
+                .post(testPost)
+                .author(testUser)
+                .build());
 
-        // Act - this should delete the archived comment since its updatedAt is in the past relative to a future cutoff
-        Long deletedCount = commentRepository.deleteArchivedCommentsOlderThan(
-                LocalDateTime.now().plusDays(1));
+        // Act
+        int deleted = commentRepository.deleteByIdIn(List.of(archivedComment.getId()));
 
         // Assert
-        assertThat(deletedCount).isEqualTo(1);
-        assertThat(commentRepository.findAll()).hasSize(0);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(commentRepository.findAll()).extracting(Comment::getContent).containsExactly("Pending comment");
     }
 
     @Test
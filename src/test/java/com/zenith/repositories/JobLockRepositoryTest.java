@@ -0,0 +1,84 @@
+package com.zenith.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zenith.BaseDataJpaTest;
+import com.zenith.entities.JobLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+public class JobLockRepositoryTest extends BaseDataJpaTest {
+
+    @Autowired
+    private JobLockRepository jobLockRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        jobLockRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should grant the lock to one owner until its lease ends")
+    void shouldGrantLockToOneOwner() {
+        // Act
+        int first = jobLockRepository.tryAcquire("cleanup", "node-1", 300);
+        int second = jobLockRepository.tryAcquire("cleanup", "node-2", 300);
+
+        // Assert
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        JobLock lock = jobLockRepository.findById("cleanup").orElseThrow();
+        assertThat(lock.getLockedBy()).isEqualTo("node-1");
+        assertThat(lock.getLockedUntil()).isAfter(lock.getLockedAt());
+    }
+
+    @Test
+    @DisplayName("should let another owner take the lock once it is released without a minimum hold")
+    void shouldHandOverReleasedLock() {
+        // Arrange
+        jobLockRepository.tryAcquire("cleanup", "node-1", 300);
+
+        // Act
+        int released = jobLockRepository.release("cleanup", "node-1", 0);
+        entityManager.clear();
+        int taken = jobLockRepository.tryAcquire("cleanup", "node-2", 300);
+
+        // Assert
+        assertThat(released).isEqualTo(1);
+        assertThat(taken).isEqualTo(1);
+        assertThat(jobLockRepository.findById("cleanup").orElseThrow().getLockedBy())
+                .isEqualTo("node-2");
+    }
+
+    @Test
+    @DisplayName("should keep a released lock until the minimum hold has passed")
+    void shouldKeepReleasedLockForMinimumHold() {
+        // Arrange
+        jobLockRepository.tryAcquire("cleanup", "node-1", 300);
+
+        // Act
+        jobLockRepository.release("cleanup", "node-1", 60);
+        int taken = jobLockRepository.tryAcquire("cleanup", "node-2", 300);
+
+        // Assert
+        assertThat(taken).isZero();
+    }
+
+    @Test
+    @DisplayName("should only extend or release a lock held by the same owner")
+    void shouldOnlyExtendOwnLock() {
+        // Arrange
+        jobLockRepository.tryAcquire("cleanup", "node-1", 300);
+
+        // Act & Assert
+        assertThat(jobLockRepository.extend("cleanup", "node-1", 300)).isEqualTo(1);
+        assertThat(jobLockRepository.extend("cleanup", "node-2", 300)).isZero();
+        assertThat(jobLockRepository.release("cleanup", "node-2", 0)).isZero();
+    }
+}
@@ -1,25 +1,54 @@
 package com.zenith.repositories;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.zenith.BaseDataJpaTest;
+import com.zenith.QueryBudget;
+import com.zenith.dtos.requests.PostFilter;
+import com.zenith.dtos.responses.PageResponse;
+import com.zenith.dtos.responses.PostResponse;
 import com.zenith.entities.Category;
+import com.zenith.entities.Comment;
 import com.zenith.entities.Post;
 import com.zenith.entities.Tag;
 import com.zenith.entities.User;
 import com.zenith.enums.PostStatus;
+import com.zenith.mappers.PostMapperImpl;
+import com.zenith.repositories.projections.PostCountRow;
+import com.zenith.repositories.projections.PostCounts;
+import com.zenith.repositories.projections.PostSearchHit;
+import com.zenith.repositories.projections.PostStatusCount;
+import com.zenith.repositories.projections.PostSuggestionRow;
+import com.zenith.repositories.projections.PostTagName;
+import com.zenith.repositories.specifications.PostSpecifications;
+import com.zenith.services.CategoryCatalog;
+import com.zenith.services.PostService;
+import com.zenith.services.PostSuggestionService;
+import com.zenith.services.StatusCountService;
+import com.zenith.services.TagCatalog;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+@Import({PostService.class, PostMapperImpl.class})
 public class PostRepositoryTest extends BaseDataJpaTest {
 
     @Autowired
@@ -34,6 +63,27 @@ public class PostRepositoryTest extends BaseDataJpaTest {
     @Autowired
     private TagRepository tagRepository;
 
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostService postService;
+
+    @MockitoBean
+    private StatusCountService statusCountService;
+
+    @MockitoBean
+    private PostSuggestionService postSuggestionService;
+
+    @MockitoBean
+    private CategoryCatalog categoryCatalog;
+
+    @MockitoBean
+    private TagCatalog tagCatalog;
+
     private User testUser;
     private Category testCategory;
     private Tag testTag;
@@ -110,6 +160,60 @@ public class PostRepositoryTest extends BaseDataJpaTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("should find the ids of all posts by an author regardless of status")
+    void shouldFindPostIdsByAuthorId() {
+        // Arrange
+        savePublishedPosts("Alpha", "Bravo");
+
+        // Act
+        List<UUID> result = postRepository.findIdsByAuthorId(testUser.getId());
+
+        // Assert
+        assertThat(result).containsExactlyInAnyOrderElementsOf(ids(postRepository.findAll()));
+        assertThat(result).hasSize(3);
+        assertThat(postRepository.findIdsByAuthorId(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should count posts per category and per tag in one grouped query each")
+    void shouldCountPostsPerCategoryAndTag() {
+        // Arrange
+        Category emptyCategory =
+                categoryRepository.save(Category.builder().name("Empty").build());
+        Tag springTag = tagRepository.save(Tag.builder().name("Spring").build());
+        postRepository.saveAll(List.of(
+                Post.builder()
+                        .title("Java Post")
+                        .content("Java content")
+                        .status(PostStatus.PUBLISHED)
+                        .author(testUser)
+                        .category(testCategory)
+                        .tags(Set.of(testTag))
+                        .build(),
+                Post.builder()
+                        .title("Draft Post")
+                        .content("Draft content")
+                        .status(PostStatus.DRAFT)
+                        .author(testUser)
+                        .category(testCategory)
+                        .tags(Set.of(testTag, springTag))
+                        .build()));
+
+        // Act
+        List<PostCountRow> categoryCounts =
+                categoryRepository.countPostsByIdIn(List.of(testCategory.getId(), emptyCategory.getId()));
+        List<PostCountRow> tagCounts = tagRepository.countPostsByIdIn(List.of(testTag.getId(), springTag.getId()));
+
+        // Assert
+        assertThat(categoryCounts)
+                .extracting(PostCountRow::getId, PostCountRow::getPostCount)
+                .containsExactly(tuple(testCategory.getId(), 2L));
+        assertThat(tagCounts)
+                .extracting(PostCountRow::getId, PostCountRow::getPostCount)
+                .containsExactlyInAnyOrder(tuple(testTag.getId(), 2L), tuple(springTag.getId(), 1L));
+    }
+
     @Test
     @DisplayName("should find posts by author id and status")
     void shouldFindPostsByAuthorIdAndStatus() {
@@ -166,8 +270,8 @@ public class PostRepositoryTest extends BaseDataJpaTest {
     }
 
     @Test
-    @DisplayName("should find posts by category id")
-    void shouldFindPostsByCategoryId() {
+    @DisplayName("should find published posts by category id")
+    void shouldFindPublishedPostsByCategoryId() {
         // Arrange
         Category anotherCategory = Category.builder().name("Sports").build();
         categoryRepository.save(anotherCategory);
@@ -180,6 +284,14 @@ public class PostRepositoryTest extends BaseDataJpaTest {
                 .category(testCategory)
                 .build();
 
+        Post techDraft = Post.builder()
+                .title("Tech Draft")
+                .content("Tech content")
+                .status(PostStatus.DRAFT)
+                .author(testUser)
+                .category(testCategory)
+                .build();
+
         Post sportsPost = Post.builder()
                 .title("Sports Post")
                 .content("Sports content")
@@ -188,38 +300,25 @@ public class PostRepositoryTest extends BaseDataJpaTest {
                 .category(anotherCategory)
                 .build();
 
-        postRepository.saveAll(List.of(techPost, sportsPost));
+        postRepository.saveAll(List.of(techPost, techDraft, sportsPost));
 
         Pageable pageable = PageRequest.of(0, 10);
 
         // Act
-        Page<Post> result = postRepository.findByCategoryId(testCategory.getId(), pageable);
+        Page<Post> result = postRepository.findAll(
+                PostSpecifications.published().and(PostSpecifications.inCategory(testCategory.getId())), pageable);
 
         // Assert
-        assertThat(result).hasSize(1);
-        assertThat(result.getContent().getFirst().getCategory().getId()).isEqualTo(testCategory.getId());
+        assertThat(result.getContent()).containsExactly(techPost);
+        assertThat(result.getTotalElements()).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("should return empty page when no posts found by category id")
-    void shouldReturnEmptyPageWhenNoPostsFoundByCategoryId() {
+    @DisplayName("should find published posts with any or all of the given tags")
+    void shouldFindPublishedPostsByAnyOrAllTags() {
         // Arrange
-        Pageable pageable = PageRequest.of(0, 10);
-        UUID nonExistentCategoryId = UUID.randomUUID();
-
-        // Act
-        Page<Post> result = postRepository.findByCategoryId(nonExistentCategoryId, pageable);
-
-        // Assert
-        assertThat(result).isEmpty();
-    }
-
-    @Test
-    @DisplayName("should find posts by tags name")
-    void shouldFindPostsByTagsName() {
-        // Arrange
-        Tag anotherTag = Tag.builder().name("Spring").build();
-        tagRepository.save(anotherTag);
+        Tag springTag = Tag.builder().name("Spring").build();
+        tagRepository.save(springTag);
 
         Post javaPost = Post.builder()
                 .title("Java Post")
@@ -236,32 +335,86 @@ public class PostRepositoryTest extends BaseDataJpaTest {
                 .status(PostStatus.PUBLISHED)
                 .author(testUser)
                 .category(testCategory)
-                .tags(Set.of(anotherTag))
+                .tags(Set.of(springTag))
                 .build();
 
-        postRepository.saveAll(List.of(javaPost, springPost));
+        Post bothPost = Post.builder()
+                .title("Spring with Java")
+                .content("Both")
+                .status(PostStatus.PUBLISHED)
+                .author(testUser)
+                .category(testCategory)
+                .tags(Set.of(testTag, springTag))
+                .build();
 
-        Pageable pageable = PageRequest.of(0, 10);
+        postRepository.saveAll(List.of(javaPost, springPost, bothPost));
+
+        List<UUID> tagIds = List.of(testTag.getId(), springTag.getId());
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
 
         // Act
-        Page<Post> result = postRepository.findByTagsName("Java", pageable);
+        Page<Post> any = postRepository.findAll(
+                PostSpecifications.published().and(PostSpecifications.taggedWithAny(tagIds)), pageable);
+        Page<Post> all = postRepository.findAll(
+                PostSpecifications.published().and(PostSpecifications.taggedWithAll(tagIds, 2)), pageable);
+        Page<Post> missingTag = postRepository.findAll(
+                PostSpecifications.published().and(PostSpecifications.taggedWithAll(tagIds, 3)), pageable);
 
         // Assert
-        assertThat(result).hasSize(1);
-        assertThat(result.getContent().getFirst().getTags()).contains(testTag);
+        assertThat(any.getContent()).containsExactly(javaPost, springPost, bothPost);
+        assertThat(any.getTotalElements()).isEqualTo(3);
+        assertThat(all.getContent()).containsExactly(bothPost);
+        assertThat(missingTag).isEmpty();
     }
 
     @Test
-    @DisplayName("should return empty page when no posts found by tags name")
-    void shouldReturnEmptyPageWhenNoPostsFoundByTagsName() {
+    @DisplayName("should combine author, creation range and tag filters in one query")
+    void shouldCombineAuthorCreationRangeAndTagFilters() {
         // Arrange
-        Pageable pageable = PageRequest.of(0, 10);
+        User otherUser = userRepository.save(User.builder()
+                .username("otheruser")
+                .email("other@example.com")
+                .password("password")
+                .role(com.zenith.enums.RoleType.USER)
+                .build());
+        Post matching = Post.builder()
+                .title("Matching")
+                .content("Content")
+                .status(PostStatus.PUBLISHED)
+                .author(testUser)
+                .category(testCategory)
+                .tags(Set.of(testTag))
+                .build();
+        Post otherAuthor = Post.builder()
+                .title("Other author")
+                .content("Content")
+                .status(PostStatus.PUBLISHED)
+                .author(otherUser)
+                .category(testCategory)
+                .tags(Set.of(testTag))
+                .build();
+        postRepository.saveAll(List.of(matching, otherAuthor));
+        entityManager.flush();
+        LocalDateTime createdAt = matching.getCreatedAt();
+
+        Specification<Post> specification = PostSpecifications.published()
+                .and(PostSpecifications.byAuthor(testUser.getId()))
+                .and(PostSpecifications.taggedWithAny(List.of(testTag.getId())));
 
         // Act
-        Page<Post> result = postRepository.findByTagsName("NonExistentTag", pageable);
+        Slice<Post> inRange = postRepository.findBy(
+                specification
+                        .and(PostSpecifications.createdFrom(createdAt.minusSeconds(1)))
+                        .and(PostSpecifications.createdBefore(createdAt.plusSeconds(1))),
+                query -> query.slice(PageRequest.of(0, 10)));
+        Slice<Post> afterRange = postRepository.findBy(
+                specification.and(PostSpecifications.createdFrom(createdAt.plusSeconds(1))),
+                query -> query.slice(PageRequest.of(0, 10)));
 
         // Assert
-        assertThat(result).isEmpty();
+        assertThat(inRange.getContent()).containsExactly(matching);
+        assertThat(inRange.hasNext()).isFalse();
+        assertThat(afterRange).isEmpty();
     }
 
     @Test
@@ -309,6 +462,43 @@ public class PostRepositoryTest extends BaseDataJpaTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("should count posts by status")
+    void shouldCountPostsByStatus() {
+        // Arrange
+        postRepository.saveAll(List.of(
+                Post.builder()
+                        .title("Published Post")
+                        .content("Published content")
+                        .status(PostStatus.PUBLISHED)
+                        .author(testUser)
+                        .category(testCategory)
+                        .build(),
+                Post.builder()
+                        .title("Draft Post")
+                        .content("Draft content")
+                        .status(PostStatus.DRAFT)
+                        .author(testUser)
+                        .category(testCategory)
+                        .build()));
+
+        // Act & Assert
+        assertThat(postRepository.countByStatus(PostStatus.PUBLISHED)).isEqualTo(1);
+        assertThat(postRepository.countByStatus(PostStatus.ARCHIVED)).isZero();
+    }
+
+    @Test
+    @DisplayName("should read planner estimate for posts by status")
+    void shouldReadPlannerEstimateByStatus() {
+        // Act
+        Long estimate = postRepository.estimateCountByStatus(PostStatus.PUBLISHED.name());
+
+        // Assert
+        // null until the table has been analyzed
+        assertThat(estimate).satisfiesAnyOf(value -> assertThat(value).isNull(), value -> assertThat(value)
+                .isNotNegative());
+    }
+
     @Test
     @DisplayName("should find published posts")
     void shouldFindPublishedPosts() {
@@ -334,13 +524,29 @@ public class PostRepositoryTest extends BaseDataJpaTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // Act
-        Page<Post> result = postRepository.findPublished(pageable);
+        Page<Post> result = postRepository.findAll(PostSpecifications.published(), pageable);
 
         // Assert
         assertThat(result).hasSize(1);
         assertThat(result.getContent().getFirst().getStatus()).isEqualTo(PostStatus.PUBLISHED);
     }
 
+    @Test
+    @DisplayName("should find published posts as slice without counting")
+    void shouldFindPublishedPostsAsSlice() {
+        // Arrange
+        savePublishedPosts("Alpha", "Bravo", "Charlie");
+
+        // Act
+        Slice<Post> result = postRepository.findBy(
+                PostSpecifications.published(), query -> query.slice(PageRequest.of(0, 2, Sort.by("title"))));
+
+        // Assert
+        assertThat(result.getContent()).extracting(Post::getTitle).containsExactly("Alpha", "Bravo");
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result).isNotInstanceOf(Page.class);
+    }
+
     @Test
     @DisplayName("should return empty page when no published posts")
     void shouldReturnEmptyPageWhenNoPublishedPosts() {
@@ -358,72 +564,342 @@ public class PostRepositoryTest extends BaseDataJpaTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // Act
-        Page<Post> result = postRepository.findPublished(pageable);
+        Page<Post> result = postRepository.findAll(PostSpecifications.published(), pageable);
 
         // Assert
         assertThat(result).isEmpty();
     }
 
     @Test
-    @DisplayName("should delete archived posts older than cutoff date")
-    void shouldDeleteArchivedPostsOlderThanCutoffDate() {
+    @DisplayName("should walk published posts by created at with seek queries")
+    void shouldWalkPublishedPostsByCreatedAtWithSeekQueries() {
         // Arrange
-        LocalDateTime futureCutoffDate = LocalDateTime.now().plusDays(1);
+        savePublishedPosts("Alpha", "Bravo", "Bravo", "Charlie", "Delta");
+        List<Post> expected = postRepository.findPublished(Sort.by("createdAt", "id"), Limit.unlimited());
 
-        Post archivedPost = Post.builder()
-                .title("Archived Post")
-                .content("Archived content")
-                .status(PostStatus.ARCHIVED)
+        // Act
+        List<Post> walked = new ArrayList<>();
+        List<Post> page = postRepository.findPublished(Sort.by("createdAt", "id"), Limit.of(2));
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            Post last = page.getLast();
+            page = postRepository.findPublishedAfterCreatedAt(last.getCreatedAt(), last.getId(), Limit.of(2));
+        }
+
+        // Assert
+        assertThat(expected).hasSize(5);
+        assertThat(walked).extracting(Post::getId).containsExactlyElementsOf(ids(expected));
+        assertThat(postRepository.findPublishedBeforeCreatedAt(
+                        expected.getLast().getCreatedAt(), expected.getLast().getId(), Limit.of(2)))
+                .extracting(Post::getId)
+                .containsExactly(expected.get(3).getId(), expected.get(2).getId());
+    }
+
+    @Test
+    @DisplayName("should walk published posts by title with seek queries")
+    void shouldWalkPublishedPostsByTitleWithSeekQueries() {
+        // Arrange
+        savePublishedPosts("Alpha", "Bravo", "Bravo", "Charlie", "Delta");
+        List<Post> expected =
+                postRepository.findPublished(Sort.by(Sort.Direction.DESC, "title", "id"), Limit.unlimited());
+
+        // Act
+        List<Post> walked = new ArrayList<>();
+        List<Post> page = postRepository.findPublished(Sort.by(Sort.Direction.DESC, "title", "id"), Limit.of(2));
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            Post last = page.getLast();
+            page = postRepository.findPublishedBeforeTitle(last.getTitle(), last.getId(), Limit.of(2));
+        }
+
+        // Assert
+        assertThat(walked).extracting(Post::getTitle).containsExactly("Delta", "Charlie", "Bravo", "Bravo", "Alpha");
+        assertThat(walked).extracting(Post::getId).containsExactlyElementsOf(ids(expected));
+        assertThat(postRepository.findPublishedAfterTitle(
+                        "Bravo", expected.get(3).getId(), Limit.of(10)))
+                .extracting(Post::getTitle)
+                .containsExactly("Bravo", "Charlie", "Delta");
+    }
+
+    @Test
+    @DisplayName("should rank title matches above content matches and page through search hits")
+    void shouldSearchPublishedPostsByRankWithKeyset() {
+        // Arrange
+        Post titleMatch = Post.builder()
+                .title("Tuning PostgreSQL indexes")
+                .content("A practical guide")
+                .status(PostStatus.PUBLISHED)
                 .author(testUser)
                 .category(testCategory)
                 .build();
-        postRepository.save(archivedPost);
+        Post contentMatch = Post.builder()
+                .title("Weekend notes")
+                .content("Some thoughts on indexes and how they speed up queries")
+                .status(PostStatus.PUBLISHED)
+                .author(testUser)
+                .category(testCategory)
+                .build();
+        Post draftMatch = Post.builder()
+                .title("Index draft")
+                .content("Unpublished indexes")
+                .status(PostStatus.DRAFT)
+                .author(testUser)
+                .category(testCategory)
+                .build();
+        Post noMatch = Post.builder()
+                .title("Travel")
+                .content("Mountains and lakes")
+                .status(PostStatus.PUBLISHED)
+                .author(testUser)
+                .category(testCategory)
+                .build();
+        postRepository.saveAll(List.of(titleMatch, contentMatch, draftMatch, noMatch));
+        entityManager.flush();
 
-        Post publishedPost = Post.builder()
-                .title("Published Post")
-                .content("Published content")
+        // Act
+        List<PostSearchHit> firstPage = postRepository.searchPublished("index", 1);
+        PostSearchHit last = firstPage.getLast();
+        List<PostSearchHit> secondPage =
+                postRepository.searchPublishedAfter("index", last.getRank(), last.getPostId(), 10);
+
+        // Assert
+        assertThat(firstPage).extracting(PostSearchHit::getPostId).containsExactly(titleMatch.getId());
+        assertThat(secondPage).extracting(PostSearchHit::getPostId).containsExactly(contentMatch.getId());
+        assertThat(last.getRank()).isGreaterThan(secondPage.getFirst().getRank());
+        assertThat(secondPage.getFirst().getSnippet()).contains("<mark>indexes</mark>");
+        assertThat(secondPage.getFirst().getAuthorId()).isEqualTo(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("should find tag and comment counts by post ids")
+    void shouldFindCountsByPostIds() {
+        // Arrange
+        Tag springTag = Tag.builder().name("Spring").build();
+        tagRepository.save(springTag);
+
+        Post taggedPost = Post.builder()
+                .title("Tagged Post")
+                .content("Tagged content")
+                .status(PostStatus.PUBLISHED)
+                .author(testUser)
+                .category(testCategory)
+                .tags(Set.of(testTag, springTag))
+                .build();
+
+        Post untaggedPost = Post.builder()
+                .title("Untagged Post")
+                .content("Untagged content")
+                .status(PostStatus.PUBLISHED)
+                .author(testUser)
+                .category(testCategory)
+                .build();
+
+        postRepository.saveAll(List.of(taggedPost, untaggedPost));
+
+        // Act
+        List<PostCounts> result = postRepository.findCountsByIdIn(List.of(taggedPost.getId(), untaggedPost.getId()));
+
+        // Assert
+        assertThat(result).hasSize(2);
+        assertThat(result)
+                .filteredOn(counts -> counts.getPostId().equals(taggedPost.getId()))
+                .singleElement()
+                .satisfies(counts -> {
+                    assertThat(counts.getTagCount()).isEqualTo(2);
+                });
+        assertThat(result)
+                .filteredOn(counts -> counts.getPostId().equals(untaggedPost.getId()))
+                .singleElement()
+                .satisfies(counts -> assertThat(counts.getTagCount()).isEqualTo(0));
+    }
+
+    @Test
+    @DisplayName("should read and map a page of published posts in a fixed number of statements")
+    void shouldReadAndMapPublishedPageWithinQueryBudget() throws Exception {
+        // Arrange
+        savePublishedPosts("Alpha", "Bravo", "Charlie", "Delta", "Echo");
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        // the page and the tag counts of all its posts; a short first page needs no count query
+        PageResponse<PostResponse> responses = QueryBudget.assertAtMost(
+                2, () -> postService.getPublishedPosts(PostFilter.none(), PageRequest.of(0, 10), true));
+
+        // Assert
+        assertThat(responses.getContent()).hasSize(5).allMatch(response -> response.authorId()
+                .equals(testUser.getId()));
+    }
+
+    @Test
+    @DisplayName("should stream published posts and their tag names in the same post id order")
+    void shouldStreamPublishedPostsAndTagNamesInPostIdOrder() {
+        // Arrange
+        Tag springTag = Tag.builder().name("Spring").build();
+        tagRepository.save(springTag);
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            posts.add(Post.builder()
+                    .title("Post " + i)
+                    .content("Content " + i)
+                    .status(i == 2 ? PostStatus.DRAFT : PostStatus.PUBLISHED)
+                    .author(testUser)
+                    .category(testCategory)
+                    .tags(i % 2 == 0 ? Set.of(testTag, springTag) : Set.of())
+                    .build());
+        }
+        postRepository.saveAll(posts);
+        entityManager.flush();
+
+        // Act
+        List<UUID> postIds;
+        List<UUID> tagPostIds;
+        try (Stream<Post> published = postRepository.streamPublished();
+                Stream<PostTagName> tagNames = postRepository.streamPublishedTagNames()) {
+            postIds = published.map(Post::getId).toList();
+            tagPostIds = tagNames.map(PostTagName::getPostId).toList();
+        }
+
+        // Assert
+        assertThat(postIds).hasSize(4).isSorted().doesNotContain(posts.get(2).getId());
+        assertThat(tagPostIds)
+                .containsExactly(
+                        posts.get(0).getId(),
+                        posts.get(0).getId(),
+                        posts.get(4).getId(),
+                        posts.get(4).getId());
+    }
+
+    @Test
+    @DisplayName("should stream titles and category names of published posts in post id order")
+    void shouldStreamPublishedSuggestionRowsInPostIdOrder() {
+        // Arrange
+        savePublishedPosts("First", "Second");
+        entityManager.flush();
+
+        // Act
+        List<PostSuggestionRow> rows;
+        try (Stream<PostSuggestionRow> stream = postRepository.streamPublishedSuggestionRows()) {
+            rows = stream.toList();
+        }
+
+        // Assert
+        assertThat(rows).extracting(PostSuggestionRow::getPostId).isSorted();
+        assertThat(rows).extracting(PostSuggestionRow::getTitle).containsExactlyInAnyOrder("First", "Second");
+        assertThat(rows).extracting(PostSuggestionRow::getCategoryName).containsOnly("Technology");
+    }
+
+    @Test
+    @DisplayName("should adjust and reconcile comment counter")
+    void shouldAdjustAndReconcileCommentCounter() {
+        // Arrange
+        Post post = Post.builder()
+                .title("Commented Post")
+                .content("Commented content")
                 .status(PostStatus.PUBLISHED)
                 .author(testUser)
                 .category(testCategory)
                 .build();
-        postRepository.save(publishedPost);
+        postRepository.save(post);
+        commentRepository.save(
+                Comment.builder().content("Comment").post(post).author(testUser).build());
+        postRepository.adjustCommentCount(post.getId(), 1);
+        postRepository.adjustCommentCount(post.getId(), 1);
 
-        // Act - this should delete the archived post since its updatedAt is in the past relative to futureCutoffDate
-        Long deletedCount = postRepository.deleteArchivedPostsOlderThan(futureCutoffDate);
+        // Act
+        int repaired = postRepository.reconcileCommentCounts();
+        entityManager.clear();
 
         // Assert
-        assertThat(deletedCount).isEqualTo(1);
-        assertThat(postRepository.findAll()).hasSize(1);
-        assertThat(postRepository.findAll()).noneMatch(post -> post.getTitle().equals("Archived Post"));
+        assertThat(repaired).isEqualTo(1);
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getCommentCount())
+                .isEqualTo(1);
     }
 
     @Test
-    @DisplayName("should return zero when no archived posts to delete")
-    void shouldReturnZeroWhenNoArchivedPostsToDelete() {
+    @DisplayName("should count an author's posts by status and decrement comment counts for their comments")
+    void shouldCountAuthorsPostsAndDecrementCommentCountsForCommentAuthor() {
         // Arrange
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
+        User otherUser = userRepository.save(User.builder()
+                .username("otheruser")
+                .email("other@example.com")
+                .password("password")
+                .role(com.zenith.enums.RoleType.USER)
+                .build());
+        Post otherPost = postRepository.save(Post.builder()
+                .title("Other Post")
+                .content("Other content")
+                .status(PostStatus.PUBLISHED)
+                .author(otherUser)
+                .category(testCategory)
+                .build());
+        savePublishedPosts("Alpha");
+        commentRepository.saveAll(List.of(
+                Comment.builder()
+                        .content("First")
+                        .post(otherPost)
+                        .author(testUser)
+                        .build(),
+                Comment.builder()
+                        .content("Second")
+                        .post(otherPost)
+                        .author(testUser)
+                        .build(),
+                Comment.builder()
+                        .content("Kept")
+                        .post(otherPost)
+                        .author(otherUser)
+                        .build()));
+        postRepository.adjustCommentCount(otherPost.getId(), 3);
+
+        // Act
+        List<PostStatusCount> counts = postRepository.countByAuthorIdGroupByStatus(testUser.getId());
+        int updated = postRepository.decrementCommentCountsForCommentAuthor(testUser.getId());
+        entityManager.clear();
 
-        Post recentArchivedPost = Post.builder()
-                .title("Recent Archived Post")
-                .content("Recent archived content")
+        // Assert
+        assertThat(counts)
+                .extracting(PostStatusCount::getStatus, PostStatusCount::getCount)
+                .containsExactlyInAnyOrder(tuple(PostStatus.PUBLISHED, 1L), tuple(PostStatus.DRAFT, 1L));
+        assertThat(updated).isEqualTo(1);
+        assertThat(postRepository.findById(otherPost.getId()).orElseThrow().getCommentCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should lock a bounded chunk of archived post ids older than cutoff date")
+    void shouldLockArchivedPostIdsOlderThanCutoffDate() {
+        // Arrange
+        Post archivedPost = Post.builder()
+                .title("Archived Post")
+                .content("Archived content")
                 .status(PostStatus.ARCHIVED)
                 .author(testUser)
                 .category(testCategory)
                 .build();
-        recentArchivedPost.setUpdatedAt(cutoffDate.plusDays(1));
-        postRepository.save(recentArchivedPost);
+        Post publishedPost = Post.builder()
+                .title("Published Post")
+                .content("Published content")
+                .status(PostStatus.PUBLISHED)
+                .author(testUser)
+                .category(testCategory)
+                .build();
+        postRepository.saveAll(List.of(archivedPost, publishedPost));
 
         // Act
-        Long deletedCount = postRepository.deleteArchivedPostsOlderThan(cutoffDate);
+        List<UUID> locked =
+                postRepository.lockArchivedIdsOlderThan(LocalDateTime.now().plusDays(1), 10);
+        List<UUID> none =
+                postRepository.lockArchivedIdsOlderThan(LocalDateTime.now().minusDays(30), 10);
 
         // Assert
-        assertThat(deletedCount).isEqualTo(0);
-        assertThat(postRepository.findAll()).hasSize(1);
+        assertThat(locked).containsExactly(archivedPost.getId());
+        assertThat(none).isEmpty();
     }
 
     @Test
-    @DisplayName("should delete archived posts older than days")
-    void shouldDeleteArchivedPostsOlderThanDays() {
+    @DisplayName("should delete a chunk of posts with their tag links, comments and counters")
+    void shouldDeletePostChunkWithDependentRows() {
         // Arrange
         Post archivedPost = Post.builder()
                 .title("Archived Post")
@@ -431,16 +907,61 @@ public class PostRepositoryTest extends BaseDataJpaTest {
                 .status(PostStatus.ARCHIVED)
                 .author(testUser)
                 .category(testCategory)
+                .tags(Set.of(testTag))
                 .build();
         postRepository.save(archivedPost);
+        userRepository.adjustPostCount(testUser.getId(), 1);
+        commentRepository.save(Comment.builder()
+                .content("Comment on archived post")
+                .post(archivedPost)
+                .author(testUser)
+                .build());
+        userRepository.adjustCommentCount(testUser.getId(), 1);
+        entityManager.flush();
+        List<UUID> postIds = List.of(archivedPost.getId());
+
+        // Act
+        userRepository.decrementCommentCountsForPosts(postIds);
+        userRepository.decrementPostCountsForPosts(postIds);
+        commentRepository.deleteByPostIdIn(postIds);
+        int tagLinks = postRepository.deleteTagLinksByPostIdIn(postIds);
+        int deleted = postRepository.deleteByIdIn(postIds);
+        entityManager.clear();
+
+        // Assert
+        assertThat(tagLinks).isEqualTo(1);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(postRepository.findAll()).isEmpty();
+        assertThat(tagRepository.findAll()).hasSize(1);
+        User author = userRepository.findById(testUser.getId()).orElseThrow();
+        assertThat(author.getPostCount()).isZero();
+        assertThat(author.getCommentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should decrement post comment counters for a chunk of comments")
+    void shouldDecrementCommentCountsForComments() {
+        // Arrange
+        Post post = postRepository.save(Post.builder()
+                .title("Post")
+                .content("Content")
+                .status(PostStatus.PUBLISHED)
+                .author(testUser)
+                .category(testCategory)
+                .build());
+        Comment comment = commentRepository.save(
+                Comment.builder().content("Comment").post(post).author(testUser).build());
+        postRepository.adjustCommentCount(post.getId(), 1);
+        entityManager.flush();
 
-        // Act - this should delete the archived post since its updatedAt is in the past relative to a future cutoff
-        Long deletedCount =
-                postRepository.deleteArchivedPostsOlderThan(LocalDateTime.now().plusDays(1));
+        // Act
+        int updated = postRepository.decrementCommentCountsForComments(List.of(comment.getId()));
+        entityManager.clear();
 
         // Assert
-        assertThat(deletedCount).isEqualTo(1);
-        assertThat(postRepository.findAll()).hasSize(0);
+        assertThat(updated).isEqualTo(1);
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getCommentCount())
+                .isZero();
     }
 
     @Test
@@ -576,4 +1097,27 @@ public class PostRepositoryTest extends BaseDataJpaTest {
         assertThat(foundPost.getTags()).hasSize(2);
         assertThat(foundPost.getTags()).containsExactlyInAnyOrder(tag1, tag2);
     }
+
+    private void savePublishedPosts(String... titles) {
+        for (String title : titles) {
+            postRepository.save(Post.builder()
+                    .title(title)
+                    .content("Content")
+                    .status(PostStatus.PUBLISHED)
+                    .author(testUser)
+                    .category(testCategory)
+                    .build());
+        }
+        postRepository.save(Post.builder()
+                .title("Draft")
+                .content("Content")
+                .status(PostStatus.DRAFT)
+                .author(testUser)
+                .category(testCategory)
+                .build());
+    }
+
+    private static List<UUID> ids(List<Post> posts) {
+        return posts.stream().map(Post::getId).toList();
+    }
 }
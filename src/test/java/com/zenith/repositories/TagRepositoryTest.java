@@ -6,10 +6,15 @@ import com.zenith.BaseDataJpaTest;
 import com.zenith.entities.Tag;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 public class TagRepositoryTest extends BaseDataJpaTest {
 
@@ -37,6 +42,39 @@ public class TagRepositoryTest extends BaseDataJpaTest {
         assertThat(result.get().getName()).isEqualTo(tagName);
     }
 
+    @Test
+    @DisplayName("should find tags by lower-cased names in one query")
+    void shouldFindTagsByLowerNameIn() {
+        // Arrange
+        tagRepository.saveAll(List.of(
+                Tag.builder().name("Java").build(),
+                Tag.builder().name("Spring").build(),
+                Tag.builder().name("Docker").build()));
+
+        // Act
+        List<Tag> result = tagRepository.findByLowerNameIn(Set.of("java", "spring", "kotlin"));
+
+        // Assert
+        assertThat(result).extracting(Tag::getName).containsExactlyInAnyOrder("Java", "Spring");
+    }
+
+    @Test
+    @DisplayName("should insert new tags and skip names that already exist in any case")
+    void shouldInsertTagsIgnoringConflicts() {
+        // Arrange
+        tagRepository.saveAndFlush(Tag.builder().name("Java").build());
+
+        // Act
+        int inserted = tagRepository.insertIgnoringConflicts(
+                new UUID[] {UUID.randomUUID(), UUID.randomUUID()}, new String[] {"java", "Kotlin"});
+
+        // Assert
+        assertThat(inserted).isEqualTo(1);
+        assertThat(tagRepository.findByLowerNameIn(Set.of("java", "kotlin")))
+                .extracting(Tag::getName)
+                .containsExactlyInAnyOrder("Java", "Kotlin");
+    }
+
     @Test
     @DisplayName("should return empty when tag not found by name ignore case")
     void shouldReturnEmptyWhenTagNotFoundByNameIgnoreCase() {
@@ -225,6 +263,26 @@ public class TagRepositoryTest extends BaseDataJpaTest {
         assertThat(tags).hasSize(2);
     }
 
+    @Test
+    @DisplayName("should find tags as slice without counting")
+    void shouldFindTagsAsSlice() {
+        // Arrange
+        tagRepository.saveAll(List.of(
+                Tag.builder().name("Tag1").build(),
+                Tag.builder().name("Tag2").build(),
+                Tag.builder().name("Tag3").build()));
+
+        // Act
+        Slice<Tag> firstPage = tagRepository.findAllBy(PageRequest.of(0, 2, Sort.by("name")));
+        Slice<Tag> lastPage = tagRepository.findAllBy(PageRequest.of(1, 2, Sort.by("name")));
+
+        // Assert
+        assertThat(firstPage.getContent()).extracting(Tag::getName).containsExactly("Tag1", "Tag2");
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(lastPage.getContent()).extracting(Tag::getName).containsExactly("Tag3");
+        assertThat(lastPage.hasNext()).isFalse();
+    }
+
     @Test
     @DisplayName("should return empty list when no tags exist")
     void shouldReturnEmptyListWhenNoTagsExist() {
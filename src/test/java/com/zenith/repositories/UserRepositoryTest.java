@@ -7,10 +7,12 @@ import com.zenith.entities.User;
 import com.zenith.enums.RoleType;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +22,9 @@ public class UserRepositoryTest extends BaseDataJpaTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
@@ -218,6 +223,27 @@ public class UserRepositoryTest extends BaseDataJpaTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("should find token version by user id")
+    void shouldFindTokenVersionById() {
+        // Arrange
+        User user = User.builder()
+                .username("testuser")
+                .email("test@example.com")
+                .password("password")
+                .tokenVersion(3)
+                .build();
+        User savedUser = userRepository.save(user);
+
+        // Act
+        Optional<Integer> result = userRepository.findTokenVersionById(savedUser.getId());
+        Optional<Integer> missing = userRepository.findTokenVersionById(UUID.randomUUID());
+
+        // Assert
+        assertThat(result).contains(3);
+        assertThat(missing).isEmpty();
+    }
+
     @Test
     @DisplayName("should return true when username exists case sensitive")
     void shouldReturnTrueWhenUsernameExistsCaseSensitive() {
@@ -365,6 +391,53 @@ public class UserRepositoryTest extends BaseDataJpaTest {
         assertThat(updatedUser.getRole()).isEqualTo(RoleType.ADMIN);
     }
 
+    @Test
+    @DisplayName("should adjust post and comment counters")
+    void shouldAdjustPostAndCommentCounters() {
+        // Arrange
+        User user = User.builder()
+                .username("user")
+                .email("user@example.com")
+                .password("password")
+                .role(RoleType.USER)
+                .build();
+        userRepository.save(user);
+
+        // Act
+        userRepository.adjustPostCount(user.getId(), 2);
+        userRepository.adjustCommentCount(user.getId(), 3);
+        userRepository.adjustCommentCount(user.getId(), -1);
+        entityManager.clear();
+
+        // Assert
+        User updatedUser = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(updatedUser.getPostCount()).isEqualTo(2);
+        assertThat(updatedUser.getCommentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should reconcile drifted user counters")
+    void shouldReconcileDriftedUserCounters() {
+        // Arrange
+        User user = User.builder()
+                .username("user")
+                .email("user@example.com")
+                .password("password")
+                .role(RoleType.USER)
+                .build();
+        userRepository.save(user);
+        userRepository.adjustPostCount(user.getId(), 5);
+
+        // Act
+        int repaired = userRepository.reconcilePostCounts();
+        entityManager.clear();
+
+        // Assert
+        assertThat(repaired).isEqualTo(1);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPostCount())
+                .isEqualTo(0);
+    }
+
     @Test
     @DisplayName("should find all users")
     void shouldFindAllUsers() {
@@ -0,0 +1,100 @@
+package com.zenith.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.zenith.entities.User;
+import com.zenith.enums.RoleType;
+import io.jsonwebtoken.JwtException;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class JwtServiceTest {
+
+    private JwtService jwtService;
+    private SecurityUser securityUser;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", "0123456789abcdef0123456789abcdef0123456789abcdef");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 900000L);
+        jwtService.init();
+
+        userId = UUID.randomUUID();
+        User user = User.builder()
+                .username("testuser")
+                .email("test@example.com")
+                .password("encodedPassword")
+                .role(RoleType.MODERATOR)
+                .tokenVersion(2)
+                .build();
+        user.setId(userId);
+        securityUser = new SecurityUser(user);
+    }
+
+    @Test
+    @DisplayName("should verify token once and expose subject and expiry")
+    void shouldVerifyTokenOnce() {
+        // Arrange
+        String token = jwtService.generateToken(securityUser);
+
+        // Act
+        VerifiedToken result = jwtService.verify(token);
+
+        // Assert
+        assertThat(result.subject()).isEqualTo("testuser");
+        assertThat(result.isExpired()).isFalse();
+        assertThat(jwtService.isTokenValid(result, securityUser)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should reject token with invalid signature")
+    void shouldRejectTokenWithInvalidSignature() {
+        // Arrange
+        String token = jwtService.generateToken(securityUser);
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.verify(tampered));
+    }
+
+    @Test
+    @DisplayName("should build principal from embedded claims")
+    void shouldBuildPrincipalFromClaims() {
+        // Arrange
+        String token = jwtService.generateToken(securityUser);
+
+        // Act
+        SecurityUser result = jwtService.extractPrincipal(jwtService.verify(token));
+
+        // Assert
+        assertThat(result).isNotNull();
+        assertThat(result.getId()).isEqualTo(userId);
+        assertThat(result.getUsername()).isEqualTo("testuser");
+        assertThat(result.getRole()).isEqualTo(RoleType.MODERATOR);
+        assertThat(result.getTokenVersion()).isEqualTo(2);
+        assertThat(result.getAuthorities()).extracting("authority").containsExactly("ROLE_MODERATOR");
+    }
+
+    @Test
+    @DisplayName("should return null principal for token without user claims")
+    void shouldReturnNullPrincipalForTokenWithoutClaims() {
+        // Arrange
+        String token =
+                jwtService.generateToken(org.springframework.security.core.userdetails.User.withUsername("testuser")
+                        .password("encodedPassword")
+                        .build());
+
+        // Act
+        SecurityUser result = jwtService.extractPrincipal(jwtService.verify(token));
+
+        // Assert
+        assertThat(result).isNull();
+        assertThat(jwtService.extractUsername(token)).isEqualTo("testuser");
+    }
+}
@@ -0,0 +1,100 @@
+package com.zenith.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class PrincipalCacheTest {
+
+    @Mock
+    private Function<String, UserDetails> loader;
+
+    @Mock
+    private UserDetails userDetails;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("should load principal once and serve subsequent lookups from cache")
+    void shouldLoadPrincipalOnce() {
+        // Arrange
+        when(loader.apply("testuser")).thenReturn(userDetails);
+
+        // Act
+        UserDetails first = principalCache.get("testuser", loader);
+        UserDetails second = principalCache.get("testuser", loader);
+
+        // Assert
+        assertThat(first).isSameAs(userDetails);
+        assertThat(second).isSameAs(userDetails);
+        verify(loader, times(1)).apply("testuser");
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", "principals")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reload principal after eviction outside a transaction")
+    void shouldReloadPrincipalAfterEviction() {
+        // Arrange
+        when(loader.apply("testuser")).thenReturn(userDetails);
+        principalCache.get("testuser", loader);
+
+        // Act
+        principalCache.evict("testuser");
+        principalCache.get("testuser", loader);
+
+        // Assert
+        verify(loader, times(2)).apply("testuser");
+    }
+
+    @Test
+    @DisplayName("should defer eviction until the surrounding transaction commits")
+    void shouldDeferEvictionUntilCommit() {
+        // Arrange
+        when(loader.apply("testuser")).thenReturn(userDetails);
+        principalCache.get("testuser", loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        principalCache.evict("testuser");
+        principalCache.get("testuser", loader);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        principalCache.get("testuser", loader);
+
+        // Assert
+        verify(loader, times(2)).apply("testuser");
+    }
+}
@@ -0,0 +1,72 @@
+package com.zenith.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.zenith.repositories.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenVersionCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenVersionCache tokenVersionCache;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionCache =
+                new TokenVersionCache(userRepository, 100, Duration.ofSeconds(30), new SimpleMeterRegistry());
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("should accept matching token version and cache the lookup")
+    void shouldAcceptMatchingTokenVersion() {
+        // Arrange
+        when(userRepository.findTokenVersionById(userId)).thenReturn(Optional.of(1));
+
+        // Act & Assert
+        assertThat(tokenVersionCache.isCurrent(userId, 1)).isTrue();
+        assertThat(tokenVersionCache.isCurrent(userId, 0)).isFalse();
+        verify(userRepository, times(1)).findTokenVersionById(userId);
+    }
+
+    @Test
+    @DisplayName("should reject tokens of deleted users")
+    void shouldRejectTokensOfDeletedUsers() {
+        // Arrange
+        when(userRepository.findTokenVersionById(userId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThat(tokenVersionCache.isCurrent(userId, 0)).isFalse();
+        assertThat(tokenVersionCache.isCurrent(userId, -1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reload token version after eviction")
+    void shouldReloadTokenVersionAfterEviction() {
+        // Arrange
+        when(userRepository.findTokenVersionById(userId)).thenReturn(Optional.of(0), Optional.of(1));
+        tokenVersionCache.isCurrent(userId, 0);
+
+        // Act
+        tokenVersionCache.evict(userId);
+        boolean result = tokenVersionCache.isCurrent(userId, 0);
+
+        // Assert
+        assertThat(result).isFalse();
+        verify(userRepository, times(2)).findTokenVersionById(userId);
+    }
+}
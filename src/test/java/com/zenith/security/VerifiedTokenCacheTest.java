@@ -0,0 +1,83 @@
+package com.zenith.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class VerifiedTokenCacheTest {
+
+    @Mock
+    private Function<String, VerifiedToken> verifier;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(100, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should verify a token once and serve repeated requests from cache")
+    void shouldVerifyTokenOnce() {
+        // Arrange
+        VerifiedToken verified = new VerifiedToken("testuser", Instant.now().plusSeconds(900), null);
+        when(verifier.apply("token")).thenReturn(verified);
+
+        // Act
+        VerifiedToken first = verifiedTokenCache.get("token", verifier);
+        VerifiedToken second = verifiedTokenCache.get("token", verifier);
+
+        // Assert
+        assertThat(first).isSameAs(verified);
+        assertThat(second).isSameAs(verified);
+        verify(verifier, times(1)).apply("token");
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", "verified-tokens")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should keep separate entries per token")
+    void shouldKeepSeparateEntriesPerToken() {
+        // Arrange
+        VerifiedToken first = new VerifiedToken("first", Instant.now().plusSeconds(900), null);
+        VerifiedToken second = new VerifiedToken("second", Instant.now().plusSeconds(900), null);
+        when(verifier.apply("first-token")).thenReturn(first);
+        when(verifier.apply("second-token")).thenReturn(second);
+
+        // Act & Assert
+        assertThat(verifiedTokenCache.get("first-token", verifier)).isSameAs(first);
+        assertThat(verifiedTokenCache.get("second-token", verifier)).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("should re-verify and fail once a cached token has expired")
+    void shouldReVerifyExpiredToken() {
+        // Arrange
+        VerifiedToken expired = new VerifiedToken("testuser", Instant.now().minusSeconds(1), null);
+        ExpiredJwtException expiredException = new ExpiredJwtException(null, null, "expired");
+        when(verifier.apply("token")).thenReturn(expired).thenThrow(expiredException);
+
+        // Act & Assert
+        assertThrows(ExpiredJwtException.class, () -> verifiedTokenCache.get("token", verifier));
+        verify(verifier, times(2)).apply("token");
+    }
+}
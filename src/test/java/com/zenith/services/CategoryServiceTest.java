@@ -21,13 +21,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 @ExtendWith(MockitoExtension.class)
 public class CategoryServiceTest {
@@ -38,7 +39,6 @@ public class CategoryServiceTest {
     @Mock
     private CategoryMapper categoryMapper;
 
-    @InjectMocks
     private CategoryService categoryService;
 
     private CategoryRequest categoryRequest;
@@ -49,6 +49,11 @@ public class CategoryServiceTest {
 
     @BeforeEach
     void setUp() {
+        categoryService = new CategoryService(
+                categoryRepository,
+                categoryMapper,
+                new CategoryCatalog(categoryRepository, categoryMapper, new ConcurrentMapCacheManager()));
+
         // Setup common test data
         categoryRequest = new CategoryRequest("Test Category");
         categoryId = UUID.randomUUID();
@@ -97,7 +102,7 @@ public class CategoryServiceTest {
         when(categoryMapper.toResponse(category)).thenReturn(categoryResponse);
 
         // Act
-        PageResponse<CategoryResponse> result = categoryService.getAllCategories(pageable);
+        PageResponse<CategoryResponse> result = categoryService.getAllCategories(pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
@@ -112,6 +117,24 @@ public class CategoryServiceTest {
         verify(categoryMapper, times(1)).toResponse(category);
     }
 
+    @Test
+    @DisplayName("should get categories without total count when totals are not requested")
+    void shouldGetCategoriesWithoutTotalCount() {
+        // Arrange
+        when(categoryRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(category), pageable, false));
+        when(categoryMapper.toResponse(category)).thenReturn(categoryResponse);
+
+        // Act
+        PageResponse<CategoryResponse> result = categoryService.getAllCategories(pageable, false);
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(categoryResponse);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getTotalElements()).isNull();
+
+        verify(categoryRepository, never()).findAll(any(Pageable.class));
+    }
+
     @Test
     @DisplayName("should get category by id successfully")
     void shouldGetCategoryByIdSuccessfully() {
@@ -0,0 +1,264 @@
+package com.zenith.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.zenith.configs.CacheConfig;
+import com.zenith.dtos.requests.CategoryRequest;
+import com.zenith.dtos.requests.CreatePostRequest;
+import com.zenith.dtos.requests.TagRequest;
+import com.zenith.dtos.responses.CategoryResponse;
+import com.zenith.dtos.responses.PageResponse;
+import com.zenith.dtos.responses.TagResponse;
+import com.zenith.entities.Category;
+import com.zenith.entities.Post;
+import com.zenith.entities.Tag;
+import com.zenith.entities.User;
+import com.zenith.mappers.CategoryMapper;
+import com.zenith.mappers.PostMapper;
+import com.zenith.mappers.TagMapper;
+import com.zenith.repositories.CategoryRepository;
+import com.zenith.repositories.CommentRepository;
+import com.zenith.repositories.PostRepository;
+import com.zenith.repositories.TagRepository;
+import com.zenith.repositories.UserRepository;
+import com.zenith.repositories.projections.PostCountRow;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig(CategoryTagCachingTest.Config.class)
+public class CategoryTagCachingTest {
+
+    @Configuration
+    @Import({
+        CacheConfig.class,
+        CategoryService.class,
+        CategoryCatalog.class,
+        TagService.class,
+        TagCatalog.class,
+        PostService.class
+    })
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager();
+        }
+    }
+
+    @MockitoBean
+    private CategoryRepository categoryRepository;
+
+    @MockitoBean
+    private CategoryMapper categoryMapper;
+
+    @MockitoBean
+    private TagRepository tagRepository;
+
+    @MockitoBean
+    private TagMapper tagMapper;
+
+    @MockitoBean
+    private PostRepository postRepository;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private CommentRepository commentRepository;
+
+    @MockitoBean
+    private PostMapper postMapper;
+
+    @MockitoBean
+    private StatusCountService statusCountService;
+
+    @MockitoBean
+    private PostSuggestionService postSuggestionService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final UUID categoryId = UUID.randomUUID();
+    private final UUID tagId = UUID.randomUUID();
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+    private Category category;
+    private Tag tag;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        category = Category.builder().name("Technology").build();
+        category.setId(categoryId);
+        tag = Tag.builder().name("java").build();
+        tag.setId(tagId);
+        when(categoryMapper.toResponse(category))
+                .thenReturn(new CategoryResponse(categoryId, "Technology", null, null, 0));
+        when(tagMapper.toResponse(tag)).thenReturn(new TagResponse(tagId, "java", null, null, 0));
+    }
+
+    @Test
+    @DisplayName("should serve repeated category lookups from cache")
+    void shouldCacheCategoryLookups() {
+        // Arrange
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
+        when(categoryRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(category), pageable, 1));
+
+        // Act
+        categoryService.getCategoryById(categoryId);
+        categoryService.getCategoryById(categoryId);
+        categoryService.getAllCategories(pageable, true);
+        categoryService.getAllCategories(pageable, true);
+
+        // Assert
+        verify(categoryRepository, times(1)).findById(categoryId);
+        verify(categoryRepository, times(1)).findAll(pageable);
+    }
+
+    @Test
+    @DisplayName("should invalidate cached categories when a category is updated")
+    void shouldEvictCategoriesOnUpdate() {
+        // Arrange
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
+        when(categoryRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(category), pageable, 1));
+        when(categoryRepository.save(category)).thenReturn(category);
+        categoryService.getCategoryById(categoryId);
+        categoryService.getAllCategories(pageable, true);
+
+        // Act
+        categoryService.updateCategory(categoryId, new CategoryRequest("Science"));
+        categoryService.getCategoryById(categoryId);
+        categoryService.getAllCategories(pageable, true);
+
+        // Assert
+        // one lookup from the update itself
+        verify(categoryRepository, times(3)).findById(categoryId);
+        verify(categoryRepository, times(2)).findAll(pageable);
+    }
+
+    @Test
+    @DisplayName("should invalidate cached tag listings when a tag is created but keep tag lookups")
+    void shouldEvictTagListingsOnCreate() {
+        // Arrange
+        when(tagRepository.findById(tagId)).thenReturn(Optional.of(tag));
+        when(tagRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(tag), pageable, 1));
+        when(tagMapper.toEntity(any())).thenReturn(tag);
+        when(tagRepository.save(tag)).thenReturn(tag);
+        tagService.getTagById(tagId);
+        tagService.getAllTags(pageable, true);
+
+        // Act
+        tagService.createTag(new TagRequest("spring"));
+        tagService.getTagById(tagId);
+        tagService.getAllTags(pageable, true);
+
+        // Assert
+        verify(tagRepository, times(1)).findById(tagId);
+        verify(tagRepository, times(2)).findAll(pageable);
+    }
+
+    @Test
+    @DisplayName("should cache post counts until a post write evicts the counts it moved")
+    void shouldCachePostCountsUntilPostWrite() {
+        // Arrange
+        User author = User.builder().username("author").build();
+        CreatePostRequest request = new CreatePostRequest("Title", "Content", categoryId, Set.of("java"));
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
+        when(categoryRepository.countPostsByIdIn(List.of(categoryId)))
+                .thenReturn(List.of(postCount(categoryId, 3)), List.of(postCount(categoryId, 4)));
+        when(tagRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(tag), pageable, 1));
+        when(tagRepository.countPostsByIdIn(List.of(tagId)))
+                .thenReturn(List.of(postCount(tagId, 7)), List.of(postCount(tagId, 8)));
+        when(tagRepository.findByLowerNameIn(Set.of("java"))).thenReturn(List.of(tag));
+        when(userRepository.findByUsername("author")).thenReturn(Optional.of(author));
+        when(postMapper.toEntity(request)).thenReturn(Post.builder().build());
+        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        categoryService.getCategoryById(categoryId);
+        tagService.getAllTags(pageable, true);
+
+        // Act
+        CategoryResponse cachedCategory = categoryService.getCategoryById(categoryId);
+        PageResponse<TagResponse> cachedTags = tagService.getAllTags(pageable, true);
+        postService.createPost("author", request);
+        CategoryResponse recountedCategory = categoryService.getCategoryById(categoryId);
+        PageResponse<TagResponse> recountedTags = tagService.getAllTags(pageable, true);
+
+        // Assert
+        assertThat(cachedCategory.postCount()).isEqualTo(3);
+        assertThat(cachedTags.getContent().getFirst().postCount()).isEqualTo(7);
+        assertThat(recountedCategory.postCount()).isEqualTo(4);
+        assertThat(recountedTags.getContent().getFirst().postCount()).isEqualTo(8);
+        verify(categoryRepository, times(2)).countPostsByIdIn(List.of(categoryId));
+        verify(tagRepository, times(2)).countPostsByIdIn(List.of(tagId));
+        // one lookup from the post creation itself
+        verify(categoryRepository, times(2)).findById(categoryId);
+        verify(tagRepository, times(1)).findAll(pageable);
+    }
+
+    @Test
+    @DisplayName("should invalidate cached tag listings when a post creates a new tag")
+    void shouldEvictTagListingsWhenPostCreatesTag() {
+        // Arrange
+        Tag kotlin = Tag.builder().name("kotlin").build();
+        kotlin.setId(UUID.randomUUID());
+        User author = User.builder().username("author").build();
+        CreatePostRequest request = new CreatePostRequest("Title", "Content", categoryId, Set.of("kotlin"));
+        when(tagRepository.findAll(pageable))
+                .thenReturn(
+                        new PageImpl<>(List.of(tag), pageable, 1), new PageImpl<>(List.of(tag, kotlin), pageable, 2));
+        when(tagMapper.toResponse(kotlin)).thenReturn(new TagResponse(kotlin.getId(), "kotlin", null, null, 0));
+        when(tagRepository.findByLowerNameIn(Set.of("kotlin"))).thenReturn(List.of(), List.of(kotlin));
+        when(userRepository.findByUsername("author")).thenReturn(Optional.of(author));
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
+        when(postMapper.toEntity(request)).thenReturn(Post.builder().build());
+        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        tagService.getAllTags(pageable, true);
+
+        // Act
+        postService.createPost("author", request);
+        PageResponse<TagResponse> tags = tagService.getAllTags(pageable, true);
+
+        // Assert
+        assertThat(tags.getContent()).extracting(TagResponse::name).containsExactly("java", "kotlin");
+        verify(tagRepository, times(2)).findAll(pageable);
+    }
+
+    private static PostCountRow postCount(UUID id, long postCount) {
+        return new PostCountRow() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public long getPostCount() {
+                return postCount;
+            }
+        };
+    }
+}
@@ -1,20 +1,32 @@
 package com.zenith.services;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-import com.zenith.entities.Comment;
-import com.zenith.entities.Post;
 import com.zenith.enums.CommentStatus;
 import com.zenith.enums.PostStatus;
 import com.zenith.repositories.CommentRepository;
 import com.zenith.repositories.PostRepository;
+import com.zenith.repositories.UserRepository;
+import com.zenith.repositories.projections.CommentStatusCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 public class CleanupServiceTest {
@@ -25,31 +37,173 @@ public class CleanupServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
-    @InjectMocks
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StatusCountService statusCountService;
+
+    @Mock
+    private CategoryCatalog categoryCatalog;
+
+    @Mock
+    private TagCatalog tagCatalog;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    private SimpleMeterRegistry meterRegistry;
     private CleanupService cleanupService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cleanupService = new CleanupService(
+                postRepository,
+                commentRepository,
+                userRepository,
+                statusCountService,
+                categoryCatalog,
+                tagCatalog,
+                transactionTemplate,
+                jobLockService,
+                meterRegistry);
+        ReflectionTestUtils.setField(cleanupService, "retention", Duration.ofDays(30));
+        ReflectionTestUtils.setField(cleanupService, "chunkSize", 2);
+        ReflectionTestUtils.setField(cleanupService, "chunkPause", Duration.ZERO);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation ->
+                        invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        when(jobLockService.runExclusively(eq("archive-cleanup"), any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, Runnable.class).run();
+            return true;
+        });
+    }
+
     @Test
-    @DisplayName("should delete archived posts and comments older than 30 days")
-    void testCleanupArchivedPostsAndComments() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime cutoffDate = now.minusDays(30);
+    @DisplayName("should delete archived comments in chunks until a short chunk is returned")
+    void shouldDeleteArchivedCommentsInChunks() {
+        // Arrange
+        List<UUID> firstChunk = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> lastChunk = List.of(UUID.randomUUID());
+        when(commentRepository.lockArchivedIdsOlderThan(any(LocalDateTime.class), eq(2)))
+                .thenReturn(firstChunk)
+                .thenReturn(lastChunk);
+        when(commentRepository.deleteByIdIn(firstChunk)).thenReturn(2);
+        when(commentRepository.deleteByIdIn(lastChunk)).thenReturn(1);
+        when(postRepository.lockArchivedIdsOlderThan(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of());
 
-        Post oldArchivedPost =
-                Post.builder().title("Old Post").status(PostStatus.ARCHIVED).build();
-        oldArchivedPost.setCreatedAt(cutoffDate.minusDays(1));
+        // Act
+        cleanupService.cleanupArchivedPostsAndComments();
+
+        // Assert
+        ArgumentCaptor<LocalDateTime> cutoffDate = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(commentRepository, times(2)).lockArchivedIdsOlderThan(cutoffDate.capture(), eq(2));
+        assertThat(cutoffDate.getValue()).isBefore(LocalDateTime.now().minusDays(29));
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(statusCountService).adjustComments(CommentStatus.ARCHIVED, -2);
+        verify(statusCountService).adjustComments(CommentStatus.ARCHIVED, -1);
+        verify(postRepository, never()).deleteByIdIn(any());
+        assertThat(meterRegistry
+                        .get("cleanup.rows.deleted")
+                        .tag("table", "comments")
+                        .counter()
+                        .count())
+                .isEqualTo(3);
+        assertThat(meterRegistry
+                        .get("cleanup.chunks")
+                        .tag("table", "comments")
+                        .counter()
+                        .count())
+                .isEqualTo(2);
+    }
 
-        Comment oldArchivedComment = Comment.builder()
-                .content("Old Comment")
-                .status(CommentStatus.ARCHIVED)
-                .build();
-        oldArchivedComment.setCreatedAt(cutoffDate.minusDays(1));
+    @Test
+    @DisplayName("should decrement counters before deleting an archived comment chunk")
+    void shouldDecrementCountersBeforeDeletingCommentChunk() {
+        // Arrange
+        List<UUID> commentIds = List.of(UUID.randomUUID());
+        when(commentRepository.lockArchivedIdsOlderThan(any(LocalDateTime.class), eq(2)))
+                .thenReturn(commentIds);
+        when(commentRepository.deleteByIdIn(commentIds)).thenReturn(1);
+        when(postRepository.lockArchivedIdsOlderThan(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of());
 
-        when(postRepository.deleteArchivedPostsOlderThan(30)).thenReturn(1L);
-        when(commentRepository.deleteArchivedCommentsOlderThan(30)).thenReturn(1L);
+        // Act
+        cleanupService.cleanupArchivedPostsAndComments();
+
+        // Assert
+        InOrder inOrder = inOrder(postRepository, commentRepository, userRepository);
+        inOrder.verify(postRepository).decrementCommentCountsForComments(commentIds);
+        inOrder.verify(userRepository).decrementCommentCountsForComments(commentIds);
+        inOrder.verify(commentRepository).deleteByIdIn(commentIds);
+    }
+
+    @Test
+    @DisplayName("should remove child comments and tag links before deleting an archived post chunk")
+    void shouldRemoveDependentRowsBeforeDeletingPostChunk() {
+        // Arrange
+        List<UUID> postIds = List.of(UUID.randomUUID());
+        CommentStatusCount approvedComments = mock(CommentStatusCount.class);
+        when(approvedComments.getStatus()).thenReturn(CommentStatus.APPROVED);
+        when(approvedComments.getCount()).thenReturn(3L);
+        when(commentRepository.lockArchivedIdsOlderThan(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of());
+        when(postRepository.lockArchivedIdsOlderThan(any(LocalDateTime.class), eq(2)))
+                .thenReturn(postIds);
+        when(commentRepository.countByPostIdInGroupByStatus(postIds)).thenReturn(List.of(approvedComments));
+        when(postRepository.deleteByIdIn(postIds)).thenReturn(1);
+
+        // Act
+        cleanupService.cleanupArchivedPostsAndComments();
+
+        // Assert
+        InOrder inOrder = inOrder(postRepository, commentRepository, userRepository);
+        inOrder.verify(userRepository).decrementCommentCountsForPosts(postIds);
+        inOrder.verify(userRepository).decrementPostCountsForPosts(postIds);
+        inOrder.verify(commentRepository).deleteByPostIdIn(postIds);
+        inOrder.verify(postRepository).deleteTagLinksByPostIdIn(postIds);
+        inOrder.verify(postRepository).deleteByIdIn(postIds);
+        verify(statusCountService).adjustComments(CommentStatus.APPROVED, -3);
+        verify(statusCountService).adjustPosts(PostStatus.ARCHIVED, -1);
+    }
+
+    @Test
+    @DisplayName("should stop deleting when interrupted during the pause between chunks")
+    void shouldStopWhenInterruptedBetweenChunks() {
+        // Arrange
+        ReflectionTestUtils.setField(cleanupService, "chunkPause", Duration.ofMinutes(1));
+        List<UUID> commentIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(commentRepository.lockArchivedIdsOlderThan(any(LocalDateTime.class), eq(2)))
+                .thenReturn(commentIds);
+        when(commentRepository.deleteByIdIn(commentIds)).thenReturn(2);
+        when(postRepository.lockArchivedIdsOlderThan(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of());
+        Thread.currentThread().interrupt();
+
+        // Act
+        cleanupService.cleanupArchivedPostsAndComments();
+
+        // Assert
+        assertThat(Thread.interrupted()).isTrue();
+        verify(commentRepository, times(1)).deleteByIdIn(commentIds);
+    }
+
+    @Test
+    @DisplayName("should not delete anything when another instance holds the cleanup lock")
+    void shouldSkipWhenLockHeldElsewhere() {
+        // Arrange
+        reset(jobLockService, transactionTemplate);
+        when(jobLockService.runExclusively(eq("archive-cleanup"), any())).thenReturn(false);
 
+        // Act
         cleanupService.cleanupArchivedPostsAndComments();
 
-        verify(postRepository, times(1)).deleteArchivedPostsOlderThan(anyInt());
-        verify(commentRepository, times(1)).deleteArchivedCommentsOlderThan(anyInt());
+        // Assert
+        verifyNoInteractions(commentRepository, postRepository, userRepository, transactionTemplate);
     }
 }
@@ -36,6 +36,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 @ExtendWith(MockitoExtension.class)
 public class CommentServiceTest {
@@ -52,6 +53,9 @@ public class CommentServiceTest {
     @Mock
     private CommentMapper commentMapper;
 
+    @Mock
+    private StatusCountService statusCountService;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -164,7 +168,7 @@ public class CommentServiceTest {
         when(commentMapper.toResponse(comment)).thenReturn(commentResponse);
 
         // Act
-        PageResponse<CommentResponse> result = commentService.getAllComments(postId, pageable);
+        PageResponse<CommentResponse> result = commentService.getAllComments(postId, pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
@@ -187,36 +191,62 @@ public class CommentServiceTest {
         when(postRepository.existsById(postId)).thenReturn(false);
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> commentService.getAllComments(postId, pageable));
+        assertThrows(ResourceNotFoundException.class, () -> commentService.getAllComments(postId, pageable, true));
 
         verify(postRepository, times(1)).existsById(postId);
         verify(commentRepository, never()).findByPostIdAndStatus(any(), any(), any());
     }
 
     @Test
-    @DisplayName("should get comments by status successfully")
+    @DisplayName("should get comments by status with the cached total count")
     void shouldGetCommentsByStatusSuccessfully() {
         // Arrange
-        Page<Comment> commentPage = new PageImpl<>(List.of(comment));
-        when(commentRepository.findByStatus(CommentStatus.PENDING, pageable)).thenReturn(commentPage);
+        when(commentRepository.findSliceByStatus(CommentStatus.PENDING, pageable))
+                .thenReturn(new SliceImpl<>(List.of(comment), pageable, false));
+        when(statusCountService.countComments(CommentStatus.PENDING)).thenReturn(1L);
         when(commentMapper.toResponse(comment)).thenReturn(commentResponse);
 
         // Act
-        PageResponse<CommentResponse> result = commentService.getCommentsByStatus(CommentStatus.PENDING, pageable);
+        PageResponse<CommentResponse> result =
+                commentService.getCommentsByStatus(CommentStatus.PENDING, pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().getFirst()).isEqualTo(commentResponse);
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        assertThat(result.getTotalPages()).isEqualTo(1);
 
-        verify(commentRepository, times(1)).findByStatus(CommentStatus.PENDING, pageable);
+        verify(commentRepository, never()).findByStatus(any(), any());
         verify(commentMapper, times(1)).toResponse(comment);
     }
 
+    @Test
+    @DisplayName("should get comments by status without total count when totals are not requested")
+    void shouldGetCommentsByStatusWithoutTotalCount() {
+        // Arrange
+        when(commentRepository.findSliceByStatus(CommentStatus.PENDING, pageable))
+                .thenReturn(new SliceImpl<>(List.of(comment), pageable, false));
+        when(commentMapper.toResponse(comment)).thenReturn(commentResponse);
+
+        // Act
+        PageResponse<CommentResponse> result =
+                commentService.getCommentsByStatus(CommentStatus.PENDING, pageable, false);
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(commentResponse);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getTotalElements()).isNull();
+
+        verify(commentRepository, never()).findByStatus(any(), any());
+    }
+
     @Test
     @DisplayName("should create comment successfully")
     void shouldCreateCommentSuccessfully() {
         // Arrange
+        post.setId(postId);
+        user.setId(UUID.randomUUID());
         when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
         when(commentMapper.toEntity(createCommentRequest)).thenReturn(comment);
@@ -234,6 +264,8 @@ public class CommentServiceTest {
         verify(postRepository, times(1)).findById(postId);
         verify(commentMapper, times(1)).toEntity(createCommentRequest);
         verify(commentRepository, times(1)).save(comment);
+        verify(postRepository, times(1)).adjustCommentCount(postId, 1);
+        verify(userRepository, times(1)).adjustCommentCount(user.getId(), 1);
         verify(commentMapper, times(1)).toResponse(comment);
     }
 
@@ -435,6 +467,8 @@ public class CommentServiceTest {
     @DisplayName("should delete comment successfully")
     void shouldDeleteCommentSuccessfully() {
         // Arrange
+        post.setId(postId);
+        user.setId(UUID.randomUUID());
         when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
 
@@ -443,6 +477,8 @@ public class CommentServiceTest {
 
         verify(userRepository, times(1)).findByUsername(user.getUsername());
         verify(commentRepository, times(1)).findById(commentId);
+        verify(postRepository, times(1)).adjustCommentCount(postId, -1);
+        verify(userRepository, times(1)).adjustCommentCount(user.getId(), -1);
         verify(commentRepository, times(1)).deleteById(commentId);
     }
 
@@ -584,11 +620,13 @@ public class CommentServiceTest {
     @DisplayName("should handle empty page when no comments found by status")
     void shouldHandleEmptyPageWhenNoCommentsFoundByStatus() {
         // Arrange
-        Page<Comment> emptyPage = new PageImpl<>(List.of(), pageable, 0);
-        when(commentRepository.findByStatus(CommentStatus.REJECTED, pageable)).thenReturn(emptyPage);
+        when(commentRepository.findSliceByStatus(CommentStatus.REJECTED, pageable))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        when(statusCountService.countComments(CommentStatus.REJECTED)).thenReturn(0L);
 
         // Act
-        PageResponse<CommentResponse> result = commentService.getCommentsByStatus(CommentStatus.REJECTED, pageable);
+        PageResponse<CommentResponse> result =
+                commentService.getCommentsByStatus(CommentStatus.REJECTED, pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
@@ -598,7 +636,7 @@ public class CommentServiceTest {
         assertThat(result.getTotalElements()).isEqualTo(0);
         assertThat(result.getTotalPages()).isEqualTo(0);
 
-        verify(commentRepository, times(1)).findByStatus(CommentStatus.REJECTED, pageable);
+        verify(commentRepository, times(1)).findSliceByStatus(CommentStatus.REJECTED, pageable);
         verify(commentMapper, never()).toResponse(any());
     }
 
@@ -612,7 +650,7 @@ public class CommentServiceTest {
                 .thenReturn(emptyPage);
 
         // Act
-        PageResponse<CommentResponse> result = commentService.getAllComments(postId, pageable);
+        PageResponse<CommentResponse> result = commentService.getAllComments(postId, pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
@@ -649,7 +687,7 @@ public class CommentServiceTest {
         when(commentMapper.toResponse(comment2)).thenReturn(commentResponse2);
 
         // Act
-        PageResponse<CommentResponse> result = commentService.getAllComments(postId, pageable);
+        PageResponse<CommentResponse> result = commentService.getAllComments(postId, pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
@@ -0,0 +1,70 @@
+package com.zenith.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.zenith.repositories.PostRepository;
+import com.zenith.repositories.UserRepository;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class CounterReconciliationServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    @InjectMocks
+    private CounterReconciliationService counterReconciliationService;
+
+    @Test
+    @DisplayName("should reconcile post and user counters")
+    @SuppressWarnings("unchecked")
+    void shouldReconcilePostAndUserCounters() {
+        when(jobLockService.runExclusively(eq("counter-reconciliation"), any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, Runnable.class).run();
+            return true;
+        });
+        doAnswer(invocation -> {
+                    invocation.getArgument(0, Consumer.class).accept(null);
+                    return null;
+                })
+                .when(transactionTemplate)
+                .executeWithoutResult(any());
+        when(postRepository.reconcileCommentCounts()).thenReturn(2);
+        when(userRepository.reconcilePostCounts()).thenReturn(0);
+        when(userRepository.reconcileCommentCounts()).thenReturn(1);
+
+        counterReconciliationService.reconcileCounters();
+
+        verify(postRepository, times(1)).reconcileCommentCounts();
+        verify(userRepository, times(1)).reconcilePostCounts();
+        verify(userRepository, times(1)).reconcileCommentCounts();
+    }
+
+    @Test
+    @DisplayName("should not reconcile counters when another instance holds the lock")
+    void shouldSkipWhenLockHeldElsewhere() {
+        when(jobLockService.runExclusively(eq("counter-reconciliation"), any())).thenReturn(false);
+
+        counterReconciliationService.reconcileCounters();
+
+        verifyNoInteractions(postRepository, userRepository, transactionTemplate);
+    }
+}
@@ -0,0 +1,147 @@
+package com.zenith.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.zenith.repositories.JobLockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class JobLockServiceTest {
+
+    @Mock
+    private JobLockRepository jobLockRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JobLockService jobLockService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jobLockService = new JobLockService(
+                jobLockRepository, transactionManager, meterRegistry, Duration.ofMinutes(5), Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobLockService.shutdown();
+    }
+
+    @Test
+    @DisplayName("should run the job and release the lock with the minimum hold when the lock is acquired")
+    void shouldRunJobWhenLockAcquired() {
+        // Arrange
+        when(jobLockRepository.tryAcquire(eq("cleanup"), anyString(), eq(300.0)))
+                .thenReturn(1);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // Act
+        boolean result = jobLockService.runExclusively("cleanup", () -> {
+            assertThat(meterRegistry
+                            .get("job.lock.held")
+                            .tag("job", "cleanup")
+                            .gauge()
+                            .value())
+                    .isEqualTo(1);
+            ran.set(true);
+        });
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(ran).isTrue();
+        verify(jobLockRepository, times(1)).release(eq("cleanup"), anyString(), eq(30.0));
+        assertThat(meterRegistry
+                        .get("job.lock.held")
+                        .tag("job", "cleanup")
+                        .gauge()
+                        .value())
+                .isZero();
+        assertThat(meterRegistry
+                        .get("job.lock.attempts")
+                        .tag("result", "acquired")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("job.lock.held.duration")
+                        .tag("job", "cleanup")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should skip the job when another instance holds the lock")
+    void shouldSkipJobWhenLockHeldElsewhere() {
+        // Arrange
+        when(jobLockRepository.tryAcquire(eq("cleanup"), anyString(), anyDouble()))
+                .thenReturn(0);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // Act
+        boolean result = jobLockService.runExclusively("cleanup", () -> ran.set(true));
+
+        // Assert
+        assertThat(result).isFalse();
+        assertThat(ran).isFalse();
+        verify(jobLockRepository, never()).release(anyString(), anyString(), anyDouble());
+        assertThat(meterRegistry
+                        .get("job.lock.attempts")
+                        .tag("result", "skipped")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should release the lock when the job fails")
+    void shouldReleaseLockWhenJobFails() {
+        // Arrange
+        when(jobLockRepository.tryAcquire(eq("cleanup"), anyString(), anyDouble()))
+                .thenReturn(1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> jobLockService.runExclusively("cleanup", () -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        verify(jobLockRepository, times(1)).release(eq("cleanup"), anyString(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("should renew the lease while a long job runs")
+    void shouldRenewLeaseWhileJobRuns() {
+        // Arrange
+        JobLockService shortLease = new JobLockService(
+                jobLockRepository, transactionManager, meterRegistry, Duration.ofMillis(90), Duration.ZERO);
+        when(jobLockRepository.tryAcquire(eq("cleanup"), anyString(), anyDouble()))
+                .thenReturn(1);
+        when(jobLockRepository.extend(eq("cleanup"), anyString(), anyDouble())).thenReturn(1);
+
+        // Act
+        shortLease.runExclusively(
+                "cleanup",
+                () -> verify(jobLockRepository, timeout(1000).atLeast(2)).extend(eq("cleanup"), anyString(), eq(0.09)));
+        shortLease.shutdown();
+
+        // Assert
+        verify(jobLockRepository, times(1)).release(eq("cleanup"), anyString(), eq(0.0));
+    }
+}
@@ -0,0 +1,149 @@
+package com.zenith.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenith.dtos.responses.CommentResponse;
+import com.zenith.dtos.responses.PostExport;
+import com.zenith.entities.Comment;
+import com.zenith.entities.Post;
+import com.zenith.enums.CommentStatus;
+import com.zenith.enums.PostStatus;
+import com.zenith.mappers.CommentMapper;
+import com.zenith.mappers.PostMapper;
+import com.zenith.repositories.CommentRepository;
+import com.zenith.repositories.PostRepository;
+import com.zenith.repositories.projections.PostTagName;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PostExportServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PostMapper postMapper;
+
+    @Mock
+    private CommentMapper commentMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private PostExportService postExportService;
+
+    @BeforeEach
+    void setUp() {
+        postExportService = new PostExportService(
+                postRepository,
+                commentRepository,
+                postMapper,
+                commentMapper,
+                new ObjectMapper().findAndRegisterModules(),
+                entityManager);
+    }
+
+    @Test
+    @DisplayName("should merge tags and approved comments into one NDJSON line per published post")
+    void shouldMergeCursorsIntoOneLinePerPost() throws Exception {
+        // Arrange
+        Post first = post("First");
+        Post second = post("Second");
+        Post third = post("Third");
+        Comment comment = Comment.builder()
+                .content("Nice")
+                .status(CommentStatus.APPROVED)
+                .post(second)
+                .build();
+        CommentResponse commentResponse = new CommentResponse(
+                UUID.randomUUID(), "Nice", CommentStatus.APPROVED, second.getId(), null, null, null);
+
+        when(postRepository.streamPublished()).thenReturn(Stream.of(first, second, third));
+        when(postRepository.streamPublishedTagNames())
+                .thenReturn(Stream.of(tagName(first, "spring"), tagName(first, "java"), tagName(third, "testing")));
+        when(commentRepository.streamApprovedOfPublishedPosts()).thenReturn(Stream.of(comment));
+        when(commentMapper.toResponse(comment)).thenReturn(commentResponse);
+        when(postMapper.toExport(any(), any(), any())).thenAnswer(invocation -> {
+            Post post = invocation.getArgument(0);
+            return new PostExport(
+                    post.getId(),
+                    post.getTitle(),
+                    post.getContent(),
+                    null,
+                    null,
+                    invocation.getArgument(1),
+                    null,
+                    null,
+                    invocation.getArgument(2));
+        });
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        postExportService.exportPublishedPosts(output);
+
+        // Assert
+        assertThat(output.toString(StandardCharsets.UTF_8).split("\n")).hasSize(3);
+        verify(postMapper, times(1)).toExport(first, Set.of("java", "spring"), List.of());
+        verify(postMapper, times(1)).toExport(second, Set.of(), List.of(commentResponse));
+        verify(postMapper, times(1)).toExport(third, Set.of("testing"), List.of());
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    @DisplayName("should write nothing when there are no published posts")
+    void shouldWriteNothingWhenNoPublishedPosts() throws Exception {
+        // Arrange
+        when(postRepository.streamPublished()).thenReturn(Stream.empty());
+        when(postRepository.streamPublishedTagNames()).thenReturn(Stream.empty());
+        when(commentRepository.streamApprovedOfPublishedPosts()).thenReturn(Stream.empty());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        postExportService.exportPublishedPosts(output);
+
+        // Assert
+        assertThat(output.size()).isZero();
+        verify(postMapper, never()).toExport(any(), any(), any());
+    }
+
+    private Post post(String title) {
+        Post post = Post.builder()
+                .title(title)
+                .content("Content")
+                .status(PostStatus.PUBLISHED)
+                .build();
+        post.setId(UUID.randomUUID());
+        return post;
+    }
+
+    private PostTagName tagName(Post post, String name) {
+        return new PostTagName() {
+            @Override
+            public UUID getPostId() {
+                return post.getId();
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.zenith.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenith.dtos.requests.CreatePostRequest;
+import com.zenith.dtos.responses.PostImportResult;
+import com.zenith.enums.ImportStatus;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class PostImportServiceTest {
+
+    @Mock
+    private PostService postService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PostImportService postImportService;
+
+    @BeforeEach
+    void setUp() {
+        postImportService = new PostImportService(
+                postService,
+                objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(postImportService, "chunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("should import valid lines in chunks and report every line in order")
+    void shouldImportValidLinesInChunks() throws Exception {
+        // Arrange
+        UUID categoryId = UUID.randomUUID();
+        String body = String.join(
+                "\n",
+                json(new CreatePostRequest("First", "Content", categoryId, Set.of("java"))),
+                "{not json",
+                "",
+                json(new CreatePostRequest("", "Content", categoryId, Set.of("java"))),
+                json(new CreatePostRequest("Second", "Content", categoryId, Set.of("spring"))));
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(postService.importPosts(eq("admin"), anyMap())).thenAnswer(invocation -> {
+            Map<Integer, CreatePostRequest> chunk = invocation.getArgument(1);
+            chunkSizes.add(chunk.size());
+            return chunk.keySet().stream()
+                    .map(line -> PostImportResult.created(line, UUID.randomUUID()))
+                    .toList();
+        });
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        postImportService.importPosts("admin", new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        // Assert
+        List<PostImportResult> results = read(output);
+        assertThat(results).extracting(PostImportResult::line).containsExactly(1, 2, 4, 5);
+        assertThat(results)
+                .extracting(PostImportResult::status)
+                .containsExactly(ImportStatus.CREATED, ImportStatus.FAILED, ImportStatus.FAILED, ImportStatus.CREATED);
+        assertThat(results.get(1).error()).startsWith("Malformed JSON");
+        assertThat(results.get(2).error()).isEqualTo("Title is required");
+        assertThat(chunkSizes).containsExactly(1, 1);
+        verify(postService, times(2)).importPosts(eq("admin"), anyMap());
+    }
+
+    @Test
+    @DisplayName("should report every line of a chunk as failed when its transaction rolls back")
+    void shouldReportChunkFailure() throws Exception {
+        // Arrange
+        UUID categoryId = UUID.randomUUID();
+        String body = json(new CreatePostRequest("First", "Content", categoryId, Set.of("java"))) + "\n"
+                + json(new CreatePostRequest("Second", "Content", categoryId, Set.of("java"))) + "\n";
+        when(postService.importPosts(eq("admin"), any())).thenThrow(new DataIntegrityViolationException("boom"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        postImportService.importPosts("admin", new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        // Assert
+        assertThat(read(output))
+                .extracting(PostImportResult::status)
+                .containsExactly(ImportStatus.FAILED, ImportStatus.FAILED);
+    }
+
+    private String json(CreatePostRequest request) throws Exception {
+        return objectMapper.writeValueAsString(request);
+    }
+
+    private List<PostImportResult> read(ByteArrayOutputStream output) {
+        return Arrays.stream(output.toString(StandardCharsets.UTF_8).split("\n"))
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, PostImportResult.class);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+}
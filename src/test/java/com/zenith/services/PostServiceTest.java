@@ -5,25 +5,41 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.zenith.dtos.requests.CreatePostRequest;
+import com.zenith.dtos.requests.PostFilter;
 import com.zenith.dtos.requests.UpdatePostRequest;
+import com.zenith.dtos.responses.CursorPageResponse;
 import com.zenith.dtos.responses.PageResponse;
+import com.zenith.dtos.responses.PostImportResult;
 import com.zenith.dtos.responses.PostResponse;
+import com.zenith.dtos.responses.PostSearchResult;
 import com.zenith.entities.Category;
 import com.zenith.entities.Post;
 import com.zenith.entities.Tag;
 import com.zenith.entities.User;
+import com.zenith.enums.CommentStatus;
+import com.zenith.enums.ImportStatus;
 import com.zenith.enums.PostStatus;
 import com.zenith.enums.RoleType;
+import com.zenith.enums.TagMatch;
 import com.zenith.exceptions.ForbiddenException;
 import com.zenith.exceptions.ResourceNotFoundException;
 import com.zenith.exceptions.UnauthorizedException;
 import com.zenith.exceptions.ValidationException;
 import com.zenith.mappers.PostMapper;
 import com.zenith.repositories.CategoryRepository;
+import com.zenith.repositories.CommentRepository;
 import com.zenith.repositories.PostRepository;
 import com.zenith.repositories.TagRepository;
 import com.zenith.repositories.UserRepository;
+import com.zenith.repositories.projections.CommentStatusCount;
+import com.zenith.repositories.projections.PostCounts;
+import com.zenith.repositories.projections.PostSearchHit;
+import com.zenith.utils.PostCursor;
+import com.zenith.utils.SearchCursor;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -31,13 +47,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
 public class PostServiceTest {
@@ -54,9 +76,24 @@ public class PostServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CommentRepository commentRepository;
+
     @Mock
     private PostMapper postMapper;
 
+    @Mock
+    private StatusCountService statusCountService;
+
+    @Mock
+    private PostSuggestionService postSuggestionService;
+
+    @Mock
+    private CategoryCatalog categoryCatalog;
+
+    @Mock
+    private TagCatalog tagCatalog;
+
     @InjectMocks
     private PostService postService;
 
@@ -118,8 +155,10 @@ public class PostServiceTest {
                 .build();
 
         category = Category.builder().name("Technology").build();
+        category.setId(categoryId);
 
         tag = Tag.builder().name("spring").build();
+        tag.setId(UUID.randomUUID());
 
         post = Post.builder()
                 .title("Test Post")
@@ -179,11 +218,11 @@ public class PostServiceTest {
     void shouldGetPublishedPostsSuccessfully() {
         // Arrange
         Page<Post> postPage = new PageImpl<>(List.of(post));
-        when(postRepository.findPublished(pageable)).thenReturn(postPage);
-        when(postMapper.toResponse(post)).thenReturn(postResponse);
+        when(postRepository.findAll(anySpecification(), eq(pageable))).thenReturn(postPage);
+        when(postMapper.toResponse(post, 0)).thenReturn(postResponse);
 
         // Act
-        PageResponse<PostResponse> result = postService.getPublishedPosts(null, null, pageable);
+        PageResponse<PostResponse> result = postService.getPublishedPosts(PostFilter.none(), pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
@@ -194,50 +233,214 @@ public class PostServiceTest {
         assertThat(result.getTotalElements()).isEqualTo(1);
         assertThat(result.getTotalPages()).isEqualTo(1);
 
-        verify(postRepository, times(1)).findPublished(pageable);
-        verify(postMapper, times(1)).toResponse(post);
+        verify(postRepository, times(1)).findAll(anySpecification(), eq(pageable));
+        verify(tagRepository, never()).findByLowerNameIn(any());
+        verify(postMapper, times(1)).toResponse(post, 0);
     }
 
     @Test
-    @DisplayName("should get published posts by category successfully")
-    void shouldGetPublishedPostsByCategorySuccessfully() {
+    @DisplayName("should get published posts without total count when totals are not requested")
+    void shouldGetPublishedPostsWithoutTotalCount() {
         // Arrange
-        Page<Post> postPage = new PageImpl<>(List.of(post));
-        when(postRepository.findByCategoryId(categoryId, pageable)).thenReturn(postPage);
-        when(postMapper.toResponse(post)).thenReturn(postResponse);
+        doReturn(new SliceImpl<>(List.of(post), pageable, true))
+                .when(postRepository)
+                .findBy(anySpecification(), any());
+        when(postMapper.toResponse(post, 0)).thenReturn(postResponse);
 
         // Act
-        PageResponse<PostResponse> result = postService.getPublishedPosts(categoryId, null, pageable);
+        PageResponse<PostResponse> result = postService.getPublishedPosts(PostFilter.none(), pageable, false);
 
         // Assert
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().getFirst()).isEqualTo(postResponse);
+        assertThat(result.getContent()).containsExactly(postResponse);
+        assertThat(result.getPageNumber()).isEqualTo(0);
+        assertThat(result.getPageSize()).isEqualTo(10);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getTotalElements()).isNull();
+        assertThat(result.getTotalPages()).isNull();
 
-        verify(postRepository, times(1)).findByCategoryId(categoryId, pageable);
-        verify(postRepository, never()).findByTagsName(any(), any());
-        verify(postRepository, never()).findPublished(any());
+        verify(postRepository, never()).findAll(anySpecification(), any(Pageable.class));
     }
 
     @Test
-    @DisplayName("should get published posts by tag successfully")
-    void shouldGetPublishedPostsByTagSuccessfully() {
+    @DisplayName("should resolve filter tag names to ids in one lookup")
+    void shouldResolveFilterTagNamesInOneLookup() {
         // Arrange
-        Page<Post> postPage = new PageImpl<>(List.of(post));
-        when(postRepository.findByTagsName("spring", pageable)).thenReturn(postPage);
-        when(postMapper.toResponse(post)).thenReturn(postResponse);
+        PostFilter filter =
+                new PostFilter(categoryId, Set.of("Spring", " java "), TagMatch.ALL, user.getId(), null, null);
+        when(tagRepository.findByLowerNameIn(Set.of("spring", "java"))).thenReturn(List.of(tag));
+        when(postRepository.findAll(anySpecification(), eq(pageable))).thenReturn(Page.empty(pageable));
 
         // Act
-        PageResponse<PostResponse> result = postService.getPublishedPosts(null, "spring", pageable);
+        PageResponse<PostResponse> result = postService.getPublishedPosts(filter, pageable, true);
 
         // Assert
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().getFirst()).isEqualTo(postResponse);
+        assertThat(result.getContent()).isEmpty();
+        verify(tagRepository, times(1)).findByLowerNameIn(Set.of("spring", "java"));
+        verify(postRepository, times(1)).findAll(anySpecification(), eq(pageable));
+    }
 
-        verify(postRepository, times(1)).findByTagsName("spring", pageable);
-        verify(postRepository, never()).findByCategoryId(any(), any());
-        verify(postRepository, never()).findPublished(any());
+    @Test
+    @DisplayName("should throw validation exception when the creation range is empty")
+    void shouldThrowValidationExceptionForEmptyCreationRange() {
+        // Arrange
+        LocalDateTime instant = LocalDateTime.of(2024, 1, 1, 0, 0);
+        PostFilter filter = new PostFilter(null, null, null, null, instant, instant);
+
+        // Act & Assert
+        ValidationException exception =
+                assertThrows(ValidationException.class, () -> postService.getPublishedPosts(filter, pageable, true));
+        assertThat(exception.getMessage()).isEqualTo("createdFrom must be before createdTo");
+        verify(postRepository, never()).findAll(anySpecification(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("should get first cursor page and encode next cursor from last post")
+    void shouldGetFirstCursorPage() {
+        // Arrange
+        Post newerPost = Post.builder()
+                .title("Newer Post")
+                .content("Newer content")
+                .status(PostStatus.PUBLISHED)
+                .author(user)
+                .build();
+        post.setId(postId);
+        post.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        newerPost.setId(UUID.randomUUID());
+        newerPost.setCreatedAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+        when(postRepository.findPublished(Sort.by(Sort.Direction.ASC, "createdAt", "id"), Limit.of(2)))
+                .thenReturn(List.of(post, newerPost));
+        when(postMapper.toResponse(post, 0)).thenReturn(postResponse);
+
+        // Act
+        CursorPageResponse<PostResponse> result = postService.getPublishedPostsByCursor(null, 1, "createdAt", "asc");
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(postResponse);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getPageSize()).isEqualTo(1);
+
+        PostCursor nextCursor = PostCursor.decode(result.getNextCursor());
+        assertThat(nextCursor.sortKey()).isEqualTo(PostCursor.SortKey.CREATED_AT);
+        assertThat(nextCursor.direction()).isEqualTo(Sort.Direction.ASC);
+        assertThat(nextCursor.createdAt()).isEqualTo(post.getCreatedAt());
+        assertThat(nextCursor.id()).isEqualTo(postId);
+        verify(postRepository, times(1)).findCountsByIdIn(List.of(postId));
+    }
+
+    @Test
+    @DisplayName("should seek after cursor position for created at sort")
+    void shouldSeekAfterCursorForCreatedAtSort() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        UUID lastId = UUID.randomUUID();
+        String cursor = new PostCursor(PostCursor.SortKey.CREATED_AT, Sort.Direction.ASC, createdAt.toString(), lastId)
+                .encode();
+        when(postRepository.findPublishedAfterCreatedAt(createdAt, lastId, Limit.of(11)))
+                .thenReturn(List.of(post));
+        when(postMapper.toResponse(post, 0)).thenReturn(postResponse);
+
+        // Act
+        CursorPageResponse<PostResponse> result = postService.getPublishedPostsByCursor(cursor, 10, "createdAt", "ASC");
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(postResponse);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        verify(postRepository, never()).findPublished(any(), any());
+    }
+
+    @Test
+    @DisplayName("should seek before cursor position for descending title sort")
+    void shouldSeekBeforeCursorForDescendingTitleSort() {
+        // Arrange
+        UUID lastId = UUID.randomUUID();
+        String cursor = new PostCursor(PostCursor.SortKey.TITLE, Sort.Direction.DESC, "Title | with separator", lastId)
+                .encode();
+        when(postRepository.findPublishedBeforeTitle("Title | with separator", lastId, Limit.of(11)))
+                .thenReturn(List.of());
+
+        // Act
+        CursorPageResponse<PostResponse> result = postService.getPublishedPostsByCursor(cursor, 10, "title", "desc");
+
+        // Assert
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        verify(postRepository, never()).findCountsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("should throw validation exception when cursor does not match requested sort")
+    void shouldThrowValidationExceptionWhenCursorDoesNotMatchSort() {
+        // Arrange
+        String cursor =
+                new PostCursor(PostCursor.SortKey.TITLE, Sort.Direction.ASC, "Test Post", UUID.randomUUID()).encode();
+
+        // Act & Assert
+        ValidationException exception = assertThrows(
+                ValidationException.class, () -> postService.getPublishedPostsByCursor(cursor, 10, "createdAt", "asc"));
+
+        assertThat(exception.getMessage()).isEqualTo("Cursor does not match the requested sort");
+    }
+
+    @Test
+    @DisplayName("should throw validation exception for malformed cursor or unsupported sort")
+    void shouldThrowValidationExceptionForMalformedCursor() {
+        // Act & Assert
+        assertThrows(
+                ValidationException.class,
+                () -> postService.getPublishedPostsByCursor("not-a-cursor", 10, "createdAt", "asc"));
+        assertThrows(
+                ValidationException.class, () -> postService.getPublishedPostsByCursor(null, 10, "updatedAt", "asc"));
+
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("should return first search page with a cursor after the last hit")
+    void shouldSearchFirstPage() {
+        // Arrange
+        PostSearchHit first = searchHit(0.9f);
+        PostSearchHit second = searchHit(0.5f);
+        PostSearchHit extra = searchHit(0.1f);
+        when(postRepository.searchPublished("spring", 3)).thenReturn(List.of(first, second, extra));
+
+        // Act
+        CursorPageResponse<PostSearchResult> result = postService.searchPublishedPosts("spring", null, 2);
+
+        // Assert
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getContent()).hasSize(2);
+        SearchCursor nextCursor = SearchCursor.decode(result.getNextCursor());
+        assertThat(nextCursor.rank()).isEqualTo(0.5f);
+        assertThat(nextCursor.id()).isEqualTo(second.getPostId());
+        verify(postMapper, never()).toSearchResult(extra);
+    }
+
+    @Test
+    @DisplayName("should resume search after the cursor position")
+    void shouldSearchAfterCursor() {
+        // Arrange
+        UUID lastId = UUID.randomUUID();
+        String cursor = new SearchCursor(0.0607927f, lastId).encode();
+        when(postRepository.searchPublishedAfter("spring", 0.0607927f, lastId, 11))
+                .thenReturn(List.of());
+
+        // Act
+        CursorPageResponse<PostSearchResult> result = postService.searchPublishedPosts("spring", cursor, 10);
+
+        // Assert
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should throw validation exception for malformed search cursor")
+    void shouldThrowValidationExceptionForMalformedSearchCursor() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> postService.searchPublishedPosts("spring", "not-a-cursor", 10));
+
+        verifyNoInteractions(postRepository);
     }
 
     @Test
@@ -247,10 +450,10 @@ public class PostServiceTest {
         Page<Post> postPage = new PageImpl<>(List.of(post));
         when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
         when(postRepository.findByAuthorId(user.getId(), pageable)).thenReturn(postPage);
-        when(postMapper.toResponse(post)).thenReturn(postResponse);
+        when(postMapper.toResponse(post, 0)).thenReturn(postResponse);
 
         // Act
-        PageResponse<PostResponse> result = postService.getMyPosts(user.getUsername(), null, pageable);
+        PageResponse<PostResponse> result = postService.getMyPosts(user.getUsername(), null, pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
@@ -268,7 +471,8 @@ public class PostServiceTest {
         when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(UnauthorizedException.class, () -> postService.getMyPosts(user.getUsername(), null, pageable));
+        assertThrows(
+                UnauthorizedException.class, () -> postService.getMyPosts(user.getUsername(), null, pageable, true));
 
         verify(userRepository, times(1)).findByUsername(user.getUsername());
         verify(postRepository, never()).findByAuthorId(any(), any());
@@ -282,10 +486,11 @@ public class PostServiceTest {
         when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
         when(postRepository.findByAuthorIdAndStatus(user.getId(), PostStatus.DRAFT, pageable))
                 .thenReturn(postPage);
-        when(postMapper.toResponse(post)).thenReturn(postResponse);
+        when(postMapper.toResponse(post, 0)).thenReturn(postResponse);
 
         // Act
-        PageResponse<PostResponse> result = postService.getMyPosts(user.getUsername(), PostStatus.DRAFT, pageable);
+        PageResponse<PostResponse> result =
+                postService.getMyPosts(user.getUsername(), PostStatus.DRAFT, pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
@@ -297,22 +502,43 @@ public class PostServiceTest {
     }
 
     @Test
-    @DisplayName("should get posts by status successfully")
+    @DisplayName("should get posts by status with the cached total count")
     void shouldGetPostsByStatusSuccessfully() {
         // Arrange
-        Page<Post> postPage = new PageImpl<>(List.of(post));
-        when(postRepository.findByStatus(PostStatus.DRAFT, pageable)).thenReturn(postPage);
-        when(postMapper.toResponse(post)).thenReturn(postResponse);
+        when(postRepository.findSliceByStatus(PostStatus.DRAFT, pageable))
+                .thenReturn(new SliceImpl<>(List.of(post), pageable, true));
+        when(statusCountService.countPosts(PostStatus.DRAFT)).thenReturn(25L);
+        when(postMapper.toResponse(post, 0)).thenReturn(postResponse);
 
         // Act
-        PageResponse<PostResponse> result = postService.getPostsByStatus(PostStatus.DRAFT, pageable);
+        PageResponse<PostResponse> result = postService.getPostsByStatus(PostStatus.DRAFT, pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().getFirst()).isEqualTo(postResponse);
+        assertThat(result.getTotalElements()).isEqualTo(25L);
+        assertThat(result.getTotalPages()).isEqualTo((int) Math.ceil(25.0 / pageable.getPageSize()));
+        assertThat(result.isHasNext()).isTrue();
 
-        verify(postRepository, times(1)).findByStatus(PostStatus.DRAFT, pageable);
+        verify(postRepository, never()).findByStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("should adjust cached status counts when post status changes")
+    void shouldAdjustStatusCountsWhenPostStatusChanges() {
+        // Arrange
+        post.setStatus(PostStatus.DRAFT);
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(postRepository.save(post)).thenReturn(post);
+        when(postMapper.toResponse(post)).thenReturn(postResponse);
+
+        // Act
+        postService.updatePostStatus(post.getId(), PostStatus.PUBLISHED);
+
+        // Assert
+        verify(statusCountService).adjustPosts(PostStatus.DRAFT, -1);
+        verify(statusCountService).adjustPosts(PostStatus.PUBLISHED, 1);
     }
 
     @Test
@@ -403,9 +629,8 @@ public class PostServiceTest {
         // Arrange
         when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
         when(categoryRepository.findById(createPostRequest.categoryId())).thenReturn(Optional.of(category));
-        when(tagRepository.findByNameIgnoreCase("spring")).thenReturn(Optional.of(tag));
-        when(tagRepository.findByNameIgnoreCase("java"))
-                .thenReturn(Optional.of(Tag.builder().name("java").build()));
+        when(tagRepository.findByLowerNameIn(Set.of("spring", "java")))
+                .thenReturn(List.of(tag, Tag.builder().name("java").build()));
         when(postMapper.toEntity(createPostRequest)).thenReturn(post);
         when(postRepository.save(post)).thenReturn(post);
         when(postMapper.toResponse(post)).thenReturn(postResponse);
@@ -421,13 +646,42 @@ public class PostServiceTest {
 
         verify(userRepository, times(1)).findByUsername(user.getUsername());
         verify(categoryRepository, times(1)).findById(createPostRequest.categoryId());
-        verify(tagRepository, times(1)).findByNameIgnoreCase("spring");
-        verify(tagRepository, times(1)).findByNameIgnoreCase("java");
+        verify(tagRepository, times(1)).findByLowerNameIn(Set.of("spring", "java"));
+        verify(tagRepository, never()).insertIgnoringConflicts(any(), any());
         verify(postMapper, times(1)).toEntity(createPostRequest);
         verify(postRepository, times(1)).save(post);
+        verify(userRepository, times(1)).adjustPostCount(user.getId(), 1);
+        verify(postSuggestionService, times(1)).index(post);
         verify(postMapper, times(1)).toResponse(post);
     }
 
+    @Test
+    @DisplayName("should insert only missing tags in one batch when creating post")
+    void shouldInsertMissingTagsInOneBatch() {
+        // Arrange
+        Tag javaTag = Tag.builder().name("java").build();
+        when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+        when(categoryRepository.findById(createPostRequest.categoryId())).thenReturn(Optional.of(category));
+        when(tagRepository.findByLowerNameIn(Set.of("spring", "java")))
+                .thenReturn(List.of(tag))
+                .thenReturn(List.of(tag, javaTag));
+        when(postMapper.toEntity(createPostRequest)).thenReturn(post);
+        when(postRepository.save(post)).thenReturn(post);
+        when(postMapper.toResponse(post)).thenReturn(postResponse);
+
+        // Act
+        postService.createPost(user.getUsername(), createPostRequest);
+
+        // Assert
+        ArgumentCaptor<UUID[]> ids = ArgumentCaptor.forClass(UUID[].class);
+        ArgumentCaptor<String[]> names = ArgumentCaptor.forClass(String[].class);
+        verify(tagRepository, times(1)).insertIgnoringConflicts(ids.capture(), names.capture());
+        assertThat(names.getValue()).containsExactly("java");
+        assertThat(ids.getValue()).hasSize(1);
+        assertThat(post.getTags()).containsExactlyInAnyOrder(tag, javaTag);
+        verify(tagRepository, times(2)).findByLowerNameIn(Set.of("spring", "java"));
+    }
+
     @Test
     @DisplayName("should throw unauthorized exception when user not found for create post")
     void shouldThrowUnauthorizedExceptionWhenUserNotFoundForCreatePost() {
@@ -459,6 +713,43 @@ public class PostServiceTest {
         verify(postMapper, times(1)).toEntity(any());
     }
 
+    @Test
+    @DisplayName("should import a chunk with one save and report lines with unknown categories")
+    void shouldImportChunkWithSingleSave() {
+        // Arrange
+        category.setId(createPostRequest.categoryId());
+        CreatePostRequest unknownCategory =
+                new CreatePostRequest("Other", "Other content", UUID.randomUUID(), Set.of("spring"));
+        Map<Integer, CreatePostRequest> chunk = new LinkedHashMap<>();
+        chunk.put(1, createPostRequest);
+        chunk.put(2, unknownCategory);
+        when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+        when(categoryRepository.findAllById(Set.of(createPostRequest.categoryId(), unknownCategory.categoryId())))
+                .thenReturn(List.of(category));
+        when(postMapper.toEntity(createPostRequest)).thenReturn(post);
+        when(tagRepository.findByLowerNameIn(Set.of("spring", "java")))
+                .thenReturn(List.of(tag, Tag.builder().name("java").build()));
+
+        // Act
+        List<PostImportResult> results = postService.importPosts(user.getUsername(), chunk);
+
+        // Assert
+        assertThat(results).extracting(PostImportResult::line).containsExactly(1, 2);
+        assertThat(results)
+                .extracting(PostImportResult::status)
+                .containsExactly(ImportStatus.CREATED, ImportStatus.FAILED);
+        assertThat(results.get(1).error()).isEqualTo("Category not found");
+        assertThat(post.getAuthor()).isEqualTo(user);
+        assertThat(post.getTags()).hasSize(2);
+
+        verify(postMapper, never()).toEntity(unknownCategory);
+        ArgumentCaptor<Iterable<Post>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(postRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).containsExactly(post);
+        verify(userRepository, times(1)).adjustPostCount(user.getId(), 1);
+        verify(statusCountService, times(1)).adjustPosts(PostStatus.PUBLISHED, 1L);
+    }
+
     @Test
     @DisplayName("should update post successfully")
     void shouldUpdatePostSuccessfully() {
@@ -466,11 +757,11 @@ public class PostServiceTest {
         when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
         when(categoryRepository.findById(updatePostRequest.categoryId())).thenReturn(Optional.of(category));
-        when(tagRepository.findByNameIgnoreCase("spring")).thenReturn(Optional.of(tag));
-        when(tagRepository.findByNameIgnoreCase("java"))
-                .thenReturn(Optional.of(Tag.builder().name("java").build()));
-        when(tagRepository.findByNameIgnoreCase("testing"))
-                .thenReturn(Optional.of(Tag.builder().name("testing").build()));
+        when(tagRepository.findByLowerNameIn(Set.of("spring", "java", "testing")))
+                .thenReturn(List.of(
+                        tag,
+                        Tag.builder().name("java").build(),
+                        Tag.builder().name("testing").build()));
         when(postRepository.save(post)).thenReturn(post);
         when(postMapper.toResponse(post)).thenReturn(postResponse);
 
@@ -487,9 +778,8 @@ public class PostServiceTest {
         verify(userRepository, times(1)).findByUsername(user.getUsername());
         verify(postRepository, times(1)).findById(postId);
         verify(categoryRepository, times(1)).findById(updatePostRequest.categoryId());
-        verify(tagRepository, times(1)).findByNameIgnoreCase("spring");
-        verify(tagRepository, times(1)).findByNameIgnoreCase("java");
-        verify(tagRepository, times(1)).findByNameIgnoreCase("testing");
+        verify(tagRepository, times(1)).findByLowerNameIn(Set.of("spring", "java", "testing"));
+        verify(tagRepository, never()).insertIgnoringConflicts(any(), any());
         verify(postRepository, times(1)).save(post);
         verify(postMapper, times(1)).toResponse(post);
     }
@@ -562,7 +852,37 @@ public class PostServiceTest {
 
         verify(userRepository, times(1)).findByUsername(user.getUsername());
         verify(postRepository, times(1)).findById(postId);
+        verify(userRepository, times(1)).decrementCommentCountsForPost(postId);
+        verify(userRepository, times(1)).adjustPostCount(user.getId(), -1);
         verify(postRepository, times(1)).deleteById(postId);
+        verify(postSuggestionService, times(1)).remove(postId);
+    }
+
+    @Test
+    @DisplayName("should subtract the deleted post's comments from the comment status counts")
+    void shouldAdjustCommentStatusCountsWhenDeletingPost() {
+        // Arrange
+        CommentStatusCount approvedComments = mock(CommentStatusCount.class);
+        when(approvedComments.getStatus()).thenReturn(CommentStatus.APPROVED);
+        when(approvedComments.getCount()).thenReturn(2L);
+        CommentStatusCount pendingComments = mock(CommentStatusCount.class);
+        when(pendingComments.getStatus()).thenReturn(CommentStatus.PENDING);
+        when(pendingComments.getCount()).thenReturn(1L);
+        when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        when(commentRepository.countByPostIdInGroupByStatus(List.of(postId)))
+                .thenReturn(List.of(approvedComments, pendingComments));
+
+        // Act
+        postService.deletePost(user.getUsername(), postId);
+
+        // Assert
+        InOrder inOrder = inOrder(commentRepository, postRepository);
+        inOrder.verify(commentRepository).countByPostIdInGroupByStatus(List.of(postId));
+        inOrder.verify(postRepository).deleteById(postId);
+        verify(statusCountService).adjustComments(CommentStatus.APPROVED, -2);
+        verify(statusCountService).adjustComments(CommentStatus.PENDING, -1);
+        verify(statusCountService).adjustPosts(PostStatus.PUBLISHED, -1);
     }
 
     @Test
@@ -635,6 +955,7 @@ public class PostServiceTest {
 
         verify(postRepository, times(1)).findById(postId);
         verify(postRepository, times(1)).save(post);
+        verify(postSuggestionService, times(1)).index(post);
         verify(postMapper, times(1)).toResponse(post);
     }
 
@@ -657,10 +978,10 @@ public class PostServiceTest {
     void shouldHandleEmptyPageWhenNoPublishedPostsFound() {
         // Arrange
         Page<Post> emptyPage = new PageImpl<>(List.of(), pageable, 0);
-        when(postRepository.findPublished(pageable)).thenReturn(emptyPage);
+        when(postRepository.findAll(anySpecification(), eq(pageable))).thenReturn(emptyPage);
 
         // Act
-        PageResponse<PostResponse> result = postService.getPublishedPosts(null, null, pageable);
+        PageResponse<PostResponse> result = postService.getPublishedPosts(PostFilter.none(), pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
@@ -670,7 +991,8 @@ public class PostServiceTest {
         assertThat(result.getTotalElements()).isEqualTo(0);
         assertThat(result.getTotalPages()).isEqualTo(0);
 
-        verify(postRepository, times(1)).findPublished(pageable);
+        verify(postRepository, times(1)).findAll(anySpecification(), eq(pageable));
+        verify(postRepository, never()).findCountsByIdIn(any());
         verify(postMapper, never()).toResponse(any());
     }
 
@@ -699,21 +1021,45 @@ public class PostServiceTest {
                 0);
 
         Page<Post> postPage = new PageImpl<>(List.of(post, post2));
-        when(postRepository.findPublished(pageable)).thenReturn(postPage);
-        when(postMapper.toResponse(post)).thenReturn(postResponse);
-        when(postMapper.toResponse(post2)).thenReturn(postResponse2);
+        when(postRepository.findAll(anySpecification(), eq(pageable))).thenReturn(postPage);
+        when(postMapper.toResponse(post, 0)).thenReturn(postResponse);
+        when(postMapper.toResponse(post2, 0)).thenReturn(postResponse2);
 
         // Act
-        PageResponse<PostResponse> result = postService.getPublishedPosts(null, null, pageable);
+        PageResponse<PostResponse> result = postService.getPublishedPosts(PostFilter.none(), pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getContent()).containsExactly(postResponse, postResponse2);
 
-        verify(postRepository, times(1)).findPublished(pageable);
-        verify(postMapper, times(1)).toResponse(post);
-        verify(postMapper, times(1)).toResponse(post2);
+        verify(postRepository, times(1)).findAll(anySpecification(), eq(pageable));
+        verify(postMapper, times(1)).toResponse(post, 0);
+        verify(postMapper, times(1)).toResponse(post2, 0);
+    }
+
+    @Test
+    @DisplayName("should map page with counts loaded in a single query")
+    void shouldMapPageWithCountsLoadedInSingleQuery() {
+        // Arrange
+        post.setId(postId);
+        PostCounts counts = mock(PostCounts.class);
+        when(counts.getPostId()).thenReturn(postId);
+        when(counts.getTagCount()).thenReturn(2);
+
+        Page<Post> postPage = new PageImpl<>(List.of(post));
+        when(postRepository.findAll(anySpecification(), eq(pageable))).thenReturn(postPage);
+        when(postRepository.findCountsByIdIn(List.of(postId))).thenReturn(List.of(counts));
+        when(postMapper.toResponse(post, 2)).thenReturn(postResponse);
+
+        // Act
+        PageResponse<PostResponse> result = postService.getPublishedPosts(PostFilter.none(), pageable, true);
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(postResponse);
+
+        verify(postRepository, times(1)).findCountsByIdIn(List.of(postId));
+        verify(postMapper, never()).toResponse(any());
     }
 
     @Test
@@ -731,11 +1077,11 @@ public class PostServiceTest {
         when(userRepository.findByUsername(adminUser.getUsername())).thenReturn(Optional.of(adminUser));
         when(postRepository.findById(postId)).thenReturn(Optional.of(otherUsersPost));
         when(categoryRepository.findById(updatePostRequest.categoryId())).thenReturn(Optional.of(category));
-        when(tagRepository.findByNameIgnoreCase("spring")).thenReturn(Optional.of(tag));
-        when(tagRepository.findByNameIgnoreCase("java"))
-                .thenReturn(Optional.of(Tag.builder().name("java").build()));
-        when(tagRepository.findByNameIgnoreCase("testing"))
-                .thenReturn(Optional.of(Tag.builder().name("testing").build()));
+        when(tagRepository.findByLowerNameIn(Set.of("spring", "java", "testing")))
+                .thenReturn(List.of(
+                        tag,
+                        Tag.builder().name("java").build(),
+                        Tag.builder().name("testing").build()));
         when(postRepository.save(otherUsersPost)).thenReturn(otherUsersPost);
         when(postMapper.toResponse(otherUsersPost)).thenReturn(postResponse);
 
@@ -766,11 +1112,11 @@ public class PostServiceTest {
         when(userRepository.findByUsername(moderatorUser.getUsername())).thenReturn(Optional.of(moderatorUser));
         when(postRepository.findById(postId)).thenReturn(Optional.of(otherUsersPost));
         when(categoryRepository.findById(updatePostRequest.categoryId())).thenReturn(Optional.of(category));
-        when(tagRepository.findByNameIgnoreCase("spring")).thenReturn(Optional.of(tag));
-        when(tagRepository.findByNameIgnoreCase("java"))
-                .thenReturn(Optional.of(Tag.builder().name("java").build()));
-        when(tagRepository.findByNameIgnoreCase("testing"))
-                .thenReturn(Optional.of(Tag.builder().name("testing").build()));
+        when(tagRepository.findByLowerNameIn(Set.of("spring", "java", "testing")))
+                .thenReturn(List.of(
+                        tag,
+                        Tag.builder().name("java").build(),
+                        Tag.builder().name("testing").build()));
         when(postRepository.save(otherUsersPost)).thenReturn(otherUsersPost);
         when(postMapper.toResponse(otherUsersPost)).thenReturn(postResponse);
 
@@ -831,4 +1177,16 @@ public class PostServiceTest {
         verify(postRepository, times(1)).findById(postId);
         verify(postRepository, times(1)).deleteById(postId);
     }
+
+    private PostSearchHit searchHit(float rank) {
+        PostSearchHit hit = mock(PostSearchHit.class);
+        lenient().when(hit.getRank()).thenReturn(rank);
+        lenient().when(hit.getPostId()).thenReturn(UUID.randomUUID());
+        return hit;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Specification<Post> anySpecification() {
+        return any(Specification.class);
+    }
 }
@@ -0,0 +1,164 @@
+package com.zenith.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.zenith.dtos.responses.PostSuggestion;
+import com.zenith.entities.Category;
+import com.zenith.entities.Post;
+import com.zenith.entities.Tag;
+import com.zenith.enums.PostStatus;
+import com.zenith.repositories.PostRepository;
+import com.zenith.repositories.projections.PostSuggestionRow;
+import com.zenith.repositories.projections.PostTagName;
+import com.zenith.utils.UuidV7;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class PostSuggestionServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostSuggestionService postSuggestionService;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        postSuggestionService =
+                new PostSuggestionService(postRepository, transactionManager, new SimpleMeterRegistry());
+        category = Category.builder().name("Technology").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("should index published titles, categories and tag names from one streaming scan")
+    void shouldRebuildFromStreamingScan() {
+        // Arrange
+        UUID first = UuidV7.randomUuid();
+        UUID second = UuidV7.randomUuid();
+        List<PostSuggestionRow> rows = List.of(
+                row(first, "Getting Started with Spring Boot", "Technology"), row(second, "Sourdough", "Cooking"));
+        List<PostTagName> tagNames =
+                List.of(tagName(first, "Java"), tagName(second, "Baking"), tagName(second, "Bread"));
+        when(postRepository.streamPublishedSuggestionRows()).thenReturn(rows.stream());
+        when(postRepository.streamPublishedTagNames()).thenReturn(tagNames.stream());
+
+        // Act
+        postSuggestionService.rebuild();
+
+        // Assert
+        assertThat(postSuggestionService.suggest("spr bo", 10))
+                .containsExactly(new PostSuggestion(first, "Getting Started with Spring Boot"));
+        assertThat(postSuggestionService.suggest("bre", 10))
+                .extracting(PostSuggestion::postId)
+                .containsExactly(second);
+        assertThat(postSuggestionService.suggest("tech", 10))
+                .extracting(PostSuggestion::postId)
+                .containsExactly(first);
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("should apply a post change only after the transaction commits")
+    void shouldIndexPostAfterCommit() {
+        // Arrange
+        Post post = post(PostStatus.PUBLISHED);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        postSuggestionService.index(post);
+        List<PostSuggestion> beforeCommit = postSuggestionService.suggest("kotlin", 10);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertThat(beforeCommit).isEmpty();
+        assertThat(postSuggestionService.suggest("kotlin cor", 10))
+                .containsExactly(new PostSuggestion(post.getId(), "Kotlin Coroutines"));
+    }
+
+    @Test
+    @DisplayName("should drop a post that is no longer published")
+    void shouldDropUnpublishedPost() {
+        // Arrange
+        Post post = post(PostStatus.PUBLISHED);
+        postSuggestionService.index(post);
+
+        // Act
+        post.setStatus(PostStatus.ARCHIVED);
+        postSuggestionService.index(post);
+
+        // Assert
+        assertThat(postSuggestionService.suggest("kotlin", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should keep changes committed while a rebuild is scanning")
+    void shouldReplayChangesMadeDuringRebuild() {
+        // Arrange
+        Post post = post(PostStatus.PUBLISHED);
+        when(postRepository.streamPublishedSuggestionRows()).thenAnswer(invocation -> {
+            postSuggestionService.index(post);
+            return Stream.empty();
+        });
+        when(postRepository.streamPublishedTagNames()).thenReturn(Stream.empty());
+
+        // Act
+        postSuggestionService.rebuild();
+
+        // Assert
+        assertThat(postSuggestionService.suggest("coroutines", 10))
+                .extracting(PostSuggestion::postId)
+                .containsExactly(post.getId());
+    }
+
+    private Post post(PostStatus status) {
+        Post post = Post.builder()
+                .title("Kotlin Coroutines")
+                .content("Content")
+                .status(status)
+                .category(category)
+                .tags(Set.of(Tag.builder().name("Kotlin").build()))
+                .build();
+        post.setId(UuidV7.randomUuid());
+        return post;
+    }
+
+    private static PostSuggestionRow row(UUID postId, String title, String categoryName) {
+        PostSuggestionRow row = mock(PostSuggestionRow.class);
+        when(row.getPostId()).thenReturn(postId);
+        when(row.getTitle()).thenReturn(title);
+        when(row.getCategoryName()).thenReturn(categoryName);
+        return row;
+    }
+
+    private static PostTagName tagName(UUID postId, String name) {
+        PostTagName tagName = mock(PostTagName.class);
+        lenient().when(tagName.getPostId()).thenReturn(postId);
+        lenient().when(tagName.getName()).thenReturn(name);
+        return tagName;
+    }
+}
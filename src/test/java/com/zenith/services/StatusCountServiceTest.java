@@ -0,0 +1,139 @@
+package com.zenith.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.zenith.enums.CommentStatus;
+import com.zenith.enums.PostStatus;
+import com.zenith.repositories.CommentRepository;
+import com.zenith.repositories.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class StatusCountServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @InjectMocks
+    private StatusCountService statusCountService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("should count posts once and serve subsequent lookups from cache")
+    void shouldCountPostsOnce() {
+        // Arrange
+        when(postRepository.countByStatus(PostStatus.DRAFT)).thenReturn(42L);
+
+        // Act
+        long first = statusCountService.countPosts(PostStatus.DRAFT);
+        long second = statusCountService.countPosts(PostStatus.DRAFT);
+
+        // Assert
+        assertThat(first).isEqualTo(42L);
+        assertThat(second).isEqualTo(42L);
+        verify(postRepository, times(1)).countByStatus(PostStatus.DRAFT);
+    }
+
+    @Test
+    @DisplayName("should apply status adjustments to cached counts only after commit")
+    void shouldApplyAdjustmentsAfterCommit() {
+        // Arrange
+        when(commentRepository.countByStatus(CommentStatus.PENDING)).thenReturn(10L);
+        when(commentRepository.countByStatus(CommentStatus.APPROVED)).thenReturn(5L);
+        statusCountService.countComments(CommentStatus.PENDING);
+        statusCountService.countComments(CommentStatus.APPROVED);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        statusCountService.adjustComments(CommentStatus.PENDING, -1);
+        statusCountService.adjustComments(CommentStatus.APPROVED, 1);
+        long beforeCommit = statusCountService.countComments(CommentStatus.PENDING);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertThat(beforeCommit).isEqualTo(10L);
+        assertThat(statusCountService.countComments(CommentStatus.PENDING)).isEqualTo(9L);
+        assertThat(statusCountService.countComments(CommentStatus.APPROVED)).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("should not cache counts for statuses that were never requested")
+    void shouldIgnoreAdjustmentsForUncachedStatus() {
+        // Arrange
+        when(postRepository.countByStatus(PostStatus.ARCHIVED)).thenReturn(3L);
+
+        // Act
+        statusCountService.adjustPosts(PostStatus.ARCHIVED, -2);
+
+        // Assert
+        assertThat(statusCountService.countPosts(PostStatus.ARCHIVED)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("should recompute cached counts on refresh")
+    void shouldRecomputeCachedCountsOnRefresh() {
+        // Arrange
+        when(postRepository.countByStatus(PostStatus.PUBLISHED)).thenReturn(7L, 8L);
+        statusCountService.countPosts(PostStatus.PUBLISHED);
+
+        // Act
+        statusCountService.refreshCounts();
+
+        // Assert
+        assertThat(statusCountService.countPosts(PostStatus.PUBLISHED)).isEqualTo(8L);
+        verify(postRepository, never()).countByStatus(PostStatus.DRAFT);
+    }
+
+    @Test
+    @DisplayName("should use planner estimate when table exceeds the threshold")
+    void shouldUsePlannerEstimateForLargeTables() {
+        // Arrange
+        ReflectionTestUtils.setField(statusCountService, "estimateEnabled", true);
+        ReflectionTestUtils.setField(statusCountService, "estimateThreshold", 1000L);
+        when(postRepository.estimateRowCount()).thenReturn(5000L);
+        when(postRepository.estimateCountByStatus("PUBLISHED")).thenReturn(4000L);
+
+        // Act
+        long count = statusCountService.countPosts(PostStatus.PUBLISHED);
+
+        // Assert
+        assertThat(count).isEqualTo(4000L);
+        verify(postRepository, never()).countByStatus(any());
+    }
+
+    @Test
+    @DisplayName("should fall back to exact count when no planner estimate is available")
+    void shouldFallBackToExactCountWithoutEstimate() {
+        // Arrange
+        ReflectionTestUtils.setField(statusCountService, "estimateEnabled", true);
+        ReflectionTestUtils.setField(statusCountService, "estimateThreshold", 1000L);
+        when(commentRepository.estimateRowCount()).thenReturn(5000L);
+        when(commentRepository.estimateCountByStatus("REJECTED")).thenReturn(null);
+        when(commentRepository.countByStatus(CommentStatus.REJECTED)).thenReturn(12L);
+
+        // Act
+        long count = statusCountService.countComments(CommentStatus.REJECTED);
+
+        // Assert
+        assertThat(count).isEqualTo(12L);
+    }
+}
@@ -21,13 +21,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 @ExtendWith(MockitoExtension.class)
 public class TagServiceTest {
@@ -38,7 +39,6 @@ public class TagServiceTest {
     @Mock
     private TagMapper tagMapper;
 
-    @InjectMocks
     private TagService tagService;
 
     private TagRequest tagRequest;
@@ -49,6 +49,9 @@ public class TagServiceTest {
 
     @BeforeEach
     void setUp() {
+        tagService = new TagService(
+                tagRepository, tagMapper, new TagCatalog(tagRepository, tagMapper, new ConcurrentMapCacheManager()));
+
         // Setup common test data
         tagRequest = new TagRequest("Test Tag");
         tagId = UUID.randomUUID();
@@ -97,7 +100,7 @@ public class TagServiceTest {
         when(tagMapper.toResponse(tag)).thenReturn(tagResponse);
 
         // Act
-        PageResponse<TagResponse> result = tagService.getAllTags(pageable);
+        PageResponse<TagResponse> result = tagService.getAllTags(pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
@@ -112,6 +115,25 @@ public class TagServiceTest {
         verify(tagMapper, times(1)).toResponse(tag);
     }
 
+    @Test
+    @DisplayName("should get tags without total count when totals are not requested")
+    void shouldGetTagsWithoutTotalCount() {
+        // Arrange
+        when(tagRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(tag), pageable, true));
+        when(tagMapper.toResponse(tag)).thenReturn(tagResponse);
+
+        // Act
+        PageResponse<TagResponse> result = tagService.getAllTags(pageable, false);
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(tagResponse);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getTotalElements()).isNull();
+        assertThat(result.getTotalPages()).isNull();
+
+        verify(tagRepository, never()).findAll(any(Pageable.class));
+    }
+
     @Test
     @DisplayName("should get tag by id successfully")
     void shouldGetTagByIdSuccessfully() {
@@ -8,6 +8,8 @@ import com.zenith.dtos.requests.UpdateUserRequest;
 import com.zenith.dtos.responses.PageResponse;
 import com.zenith.dtos.responses.UserResponse;
 import com.zenith.entities.User;
+import com.zenith.enums.CommentStatus;
+import com.zenith.enums.PostStatus;
 import com.zenith.enums.RoleType;
 import com.zenith.exceptions.DuplicateResourceException;
 import com.zenith.exceptions.ForbiddenException;
@@ -15,7 +17,13 @@ import com.zenith.exceptions.ResourceNotFoundException;
 import com.zenith.exceptions.UnauthorizedException;
 import com.zenith.exceptions.ValidationException;
 import com.zenith.mappers.UserMapper;
+import com.zenith.repositories.CommentRepository;
+import com.zenith.repositories.PostRepository;
 import com.zenith.repositories.UserRepository;
+import com.zenith.repositories.projections.CommentStatusCount;
+import com.zenith.repositories.projections.PostStatusCount;
+import com.zenith.security.PrincipalCache;
+import com.zenith.security.TokenVersionCache;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,6 +31,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -30,6 +39,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,12 +48,36 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PostSuggestionService postSuggestionService;
+
+    @Mock
+    private StatusCountService statusCountService;
+
+    @Mock
+    private CategoryCatalog categoryCatalog;
+
+    @Mock
+    private TagCatalog tagCatalog;
+
     @Mock
     private UserMapper userMapper;
 
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -117,7 +151,7 @@ public class UserServiceTest {
         when(userMapper.toResponse(user)).thenReturn(userResponse);
 
         // Act
-        PageResponse<UserResponse> result = userService.getAllUsers(null, pageable);
+        PageResponse<UserResponse> result = userService.getAllUsers(null, pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
@@ -141,7 +175,7 @@ public class UserServiceTest {
         when(userMapper.toResponse(user)).thenReturn(userResponse);
 
         // Act
-        PageResponse<UserResponse> result = userService.getAllUsers(RoleType.ADMIN, pageable);
+        PageResponse<UserResponse> result = userService.getAllUsers(RoleType.ADMIN, pageable, true);
 
         // Assert
         assertThat(result).isNotNull();
@@ -152,6 +186,25 @@ public class UserServiceTest {
         verify(userMapper, times(1)).toResponse(user);
     }
 
+    @Test
+    @DisplayName("should get users without total count when totals are not requested")
+    void shouldGetUsersWithoutTotalCount() {
+        // Arrange
+        when(userRepository.findSliceByRole(RoleType.ADMIN, pageable))
+                .thenReturn(new SliceImpl<>(List.of(user), pageable, true));
+        when(userMapper.toResponse(user)).thenReturn(userResponse);
+
+        // Act
+        PageResponse<UserResponse> result = userService.getAllUsers(RoleType.ADMIN, pageable, false);
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(userResponse);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getTotalPages()).isNull();
+
+        verify(userRepository, never()).findByRole(any(), any());
+    }
+
     @Test
     @DisplayName("should get current user successfully")
     void shouldGetCurrentUserSuccessfully() {
@@ -247,6 +300,7 @@ public class UserServiceTest {
         verify(userRepository, times(1)).existsByEmail(updateRequest.email());
         verify(passwordEncoder, times(1)).encode(updateRequest.password());
         verify(userRepository, times(1)).save(currentUser);
+        verify(principalCache, times(1)).evict(currentUser.getUsername());
         verify(userMapper, times(1)).toResponse(currentUser);
     }
 
@@ -292,6 +346,7 @@ public class UserServiceTest {
         verify(userRepository, never()).existsByEmail(anyString());
         verify(passwordEncoder, never()).encode(anyString());
         verify(userRepository, times(1)).save(otherUser);
+        verify(principalCache, times(1)).evict(otherUser.getUsername());
         verify(userMapper, times(1)).toResponse(otherUser);
     }
 
@@ -379,6 +434,9 @@ public class UserServiceTest {
         verify(userRepository, times(1)).findById(userId);
         verify(userRepository, times(1)).save(user);
         verify(userMapper, times(1)).toResponse(user);
+        verify(principalCache, times(1)).evict(username);
+        verify(tokenVersionCache, times(1)).evict(userId);
+        assertThat(user.getTokenVersion()).isEqualTo(1);
     }
 
     @Test
@@ -399,25 +457,76 @@ public class UserServiceTest {
     @DisplayName("should delete user successfully")
     void shouldDeleteUserSuccessfully() {
         // Arrange
-        when(userRepository.existsById(userId)).thenReturn(true);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
 
         // Act & Assert
         assertDoesNotThrow(() -> userService.deleteUser(userId));
 
-        verify(userRepository, times(1)).existsById(userId);
+        verify(userRepository, times(1)).findById(userId);
         verify(userRepository, times(1)).deleteById(userId);
+        verify(principalCache, times(1)).evict(username);
+        verify(tokenVersionCache, times(1)).evict(userId);
+    }
+
+    @Test
+    @DisplayName("should drop the deleted user's posts from post suggestions")
+    void shouldRemoveDeletedUsersPostsFromSuggestions() {
+        // Arrange
+        UUID firstPostId = UUID.randomUUID();
+        UUID secondPostId = UUID.randomUUID();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(postRepository.findIdsByAuthorId(userId)).thenReturn(List.of(firstPostId, secondPostId));
+
+        // Act
+        userService.deleteUser(userId);
+
+        // Assert
+        verify(postSuggestionService).remove(firstPostId);
+        verify(postSuggestionService).remove(secondPostId);
+        verify(userRepository).deleteById(userId);
+    }
+
+    @Test
+    @DisplayName("should adjust the counters of the posts, comments and users the deletion cascades to")
+    void shouldAdjustCountersWhenDeletingUser() {
+        // Arrange
+        List<UUID> postIds = List.of(UUID.randomUUID());
+        PostStatusCount publishedPosts = mock(PostStatusCount.class);
+        when(publishedPosts.getStatus()).thenReturn(PostStatus.PUBLISHED);
+        when(publishedPosts.getCount()).thenReturn(1L);
+        CommentStatusCount approvedComments = mock(CommentStatusCount.class);
+        when(approvedComments.getStatus()).thenReturn(CommentStatus.APPROVED);
+        when(approvedComments.getCount()).thenReturn(4L);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(postRepository.findIdsByAuthorId(userId)).thenReturn(postIds);
+        when(postRepository.countByAuthorIdGroupByStatus(userId)).thenReturn(List.of(publishedPosts));
+        when(commentRepository.countByAuthorOrPostAuthorGroupByStatus(userId)).thenReturn(List.of(approvedComments));
+
+        // Act
+        userService.deleteUser(userId);
+
+        // Assert
+        InOrder inOrder = inOrder(postRepository, userRepository);
+        inOrder.verify(postRepository).decrementCommentCountsForCommentAuthor(userId);
+        inOrder.verify(userRepository).decrementCommentCountsForPosts(postIds);
+        inOrder.verify(userRepository).deleteById(userId);
+        verify(statusCountService).adjustPosts(PostStatus.PUBLISHED, -1);
+        verify(statusCountService).adjustComments(CommentStatus.APPROVED, -4);
+        verify(categoryCatalog).evictAllPostCounts();
+        verify(tagCatalog).evictAllPostCounts();
     }
 
     @Test
     @DisplayName("should throw resource not found exception when deleting non existent user")
     void shouldThrowResourceNotFoundExceptionWhenDeletingNonExistentUser() {
         // Arrange
-        when(userRepository.existsById(userId)).thenReturn(false);
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> userService.deleteUser(userId));
 
-        verify(userRepository, times(1)).existsById(userId);
+        verify(userRepository, times(1)).findById(userId);
         verify(userRepository, never()).deleteById(any());
+        verify(principalCache, never()).evict(anyString());
     }
 }
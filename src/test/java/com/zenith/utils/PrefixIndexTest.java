@@ -0,0 +1,144 @@
+package com.zenith.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class PrefixIndexTest {
+
+    private PrefixIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PrefixIndex<>();
+    }
+
+    @Test
+    @DisplayName("should match documents containing a word starting with every query word, most recently put first")
+    void shouldMatchEveryQueryWordAsPrefix() {
+        // Arrange
+        index.put(UUID.randomUUID(), "spring", List.of("Getting Started with Spring Boot", "Technology"));
+        index.put(UUID.randomUUID(), "springfield", List.of("Springfield travel notes", "Travel"));
+        index.put(UUID.randomUUID(), "boot camp", List.of("Java boot camp", "Education", "Spring"));
+
+        // Act
+        List<String> spring = index.search("spr", 10);
+        List<String> springBoot = index.search("Spr BO", 10);
+
+        // Assert
+        assertThat(spring).containsExactly("boot camp", "springfield", "spring");
+        assertThat(springBoot).containsExactly("boot camp", "spring");
+        assertThat(index.search("kotlin", 10)).isEmpty();
+        assertThat(index.search("  -- ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should replace a document put again under the same key")
+    void shouldReplaceDocumentWithSameKey() {
+        // Arrange
+        UUID key = UUID.randomUUID();
+        index.put(key, "draft title", List.of("Old title"));
+
+        // Act
+        index.put(key, "new title", List.of("New title"));
+
+        // Assert
+        assertThat(index.search("old", 10)).isEmpty();
+        assertThat(index.search("title", 10)).containsExactly("new title");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should rank a document put again ahead of documents put since it was first added")
+    void shouldRankReplacedDocumentAsMostRecent() {
+        // Arrange
+        UUID key = UUID.randomUUID();
+        index.put(key, "older", List.of("Spring Boot"));
+        index.put(UUID.randomUUID(), "newer", List.of("Spring Data"));
+
+        // Act
+        index.put(key, "older, edited", List.of("Spring Boot"));
+
+        // Assert
+        assertThat(index.search("spring", 10)).containsExactly("older, edited", "newer");
+    }
+
+    @Test
+    @DisplayName("should stop matching removed documents")
+    void shouldStopMatchingRemovedDocuments() {
+        // Arrange
+        UUID removed = UUID.randomUUID();
+        index.put(removed, "removed", List.of("Spring Data"));
+        index.put(UUID.randomUUID(), "kept", List.of("Spring Security"));
+
+        // Act
+        boolean result = index.remove(removed);
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(index.remove(removed)).isFalse();
+        assertThat(index.search("spring", 10)).containsExactly("kept");
+    }
+
+    @Test
+    @DisplayName("should return at most the requested number of documents")
+    void shouldLimitResults() {
+        // Arrange
+        for (int i = 0; i < 2000; i++) {
+            index.put(UUID.randomUUID(), "post " + i, List.of("Post number " + i));
+        }
+
+        // Act
+        List<String> result = index.search("post 19", 3);
+
+        // Assert
+        assertThat(result).containsExactly("post 1999", "post 1998", "post 1997");
+    }
+
+    @Test
+    @DisplayName("should match one-character words only as whole terms")
+    void shouldMatchShortPrefixesOnlyAsWholeTerms() {
+        // Arrange
+        index.put(UUID.randomUUID(), "vitamin c", List.of("Vitamin C"));
+        index.put(UUID.randomUUID(), "cooking", List.of("Cooking"));
+
+        // Act
+        List<String> result = index.search("c", 10);
+
+        // Assert
+        assertThat(result).containsExactly("vitamin c");
+        assertThat(index.search("co", 10)).containsExactly("cooking");
+    }
+
+    @Test
+    @DisplayName("should keep results and order after most documents are removed")
+    void shouldKeepResultsAfterCompaction() {
+        // Arrange
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            UUID key = UUID.randomUUID();
+            keys.add(key);
+            index.put(key, "post " + i, List.of("Post number " + i));
+        }
+        int termsBefore = index.termCount();
+
+        // Act
+        for (int i = 0; i < 3000; i++) {
+            if (i % 100 != 0) {
+                index.remove(keys.get(i));
+            }
+        }
+        index.put(keys.get(100), "post 100, edited", List.of("Post number 100"));
+
+        // Assert
+        assertThat(index.size()).isEqualTo(30);
+        assertThat(index.search("post", 3)).containsExactly("post 100, edited", "post 2900", "post 2800");
+        assertThat(index.search("number 29", 10)).containsExactly("post 2900");
+        assertThat(index.termCount()).isLessThan(termsBefore / 2);
+    }
+}
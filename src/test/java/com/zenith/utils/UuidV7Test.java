@@ -0,0 +1,74 @@
+package com.zenith.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UuidV7Test {
+
+    @Test
+    @DisplayName("should set version 7 and the RFC 9562 variant")
+    void shouldSetVersionAndVariant() {
+        // Act
+        UUID uuid = UuidV7.randomUuid();
+
+        // Assert
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should embed the current unix millisecond timestamp")
+    void shouldEmbedCurrentTimestamp() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID uuid = UuidV7.randomUuid();
+
+        // Assert
+        // bursts above 4096 ids per millisecond may run the embedded clock slightly ahead
+        assertThat(UuidV7.timestamp(uuid)).isBetween(before, System.currentTimeMillis() + 100);
+    }
+
+    @Test
+    @DisplayName("should generate unique ids in strictly increasing order")
+    void shouldGenerateMonotonicIds() {
+        // Arrange
+        List<UUID> ids = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(UuidV7.randomUuid());
+        }
+
+        // Assert
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+        // compare as unsigned strings, the order PostgreSQL uses for uuid columns
+        assertThat(ids.stream().map(UUID::toString).toList()).isSorted();
+    }
+
+    @Test
+    @DisplayName("should embed a given timestamp so backdated ids sort by it")
+    void shouldEmbedGivenTimestamp() {
+        // Arrange
+        Random random = new Random(42);
+        long earlier = 1_700_000_000_000L;
+
+        // Act
+        UUID first = UuidV7.forTimestamp(earlier, random);
+        UUID second = UuidV7.forTimestamp(earlier + 1, random);
+
+        // Assert
+        assertThat(first.version()).isEqualTo(7);
+        assertThat(first.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestamp(first)).isEqualTo(earlier);
+        assertThat(first.toString()).isLessThan(second.toString());
+    }
+}
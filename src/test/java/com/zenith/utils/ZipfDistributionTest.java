@@ -0,0 +1,63 @@
+package com.zenith.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ZipfDistributionTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    @DisplayName("should give the first ranks most samples in proportion to 1/rank")
+    void shouldFavourLowRanks() {
+        // Arrange
+        ZipfDistribution zipf = new ZipfDistribution(1_000, 1.0);
+
+        // Act
+        int[] counts = sample(zipf);
+
+        // Assert
+        // the harmonic number H(1000) is about 7.485, so rank 0 takes about 13.4% of the samples
+        assertThat(counts[0] / (double) SAMPLES).isCloseTo(0.1336, within(0.005));
+        assertThat(counts[0] / (double) counts[1]).isCloseTo(2.0, within(0.1));
+        assertThat(counts[0]).isGreaterThan(counts[9] * 8);
+    }
+
+    @Test
+    @DisplayName("should sample uniformly with an exponent of zero")
+    void shouldSampleUniformlyWithoutSkew() {
+        // Arrange
+        ZipfDistribution zipf = new ZipfDistribution(10, 0.0);
+
+        // Act
+        int[] counts = sample(zipf);
+
+        // Assert
+        for (int count : counts) {
+            assertThat(count / (double) SAMPLES).isCloseTo(0.1, within(0.005));
+        }
+    }
+
+    @Test
+    @DisplayName("should reject an empty range")
+    void shouldRejectEmptyRange() {
+        // Act & Assert
+        assertThatThrownBy(() -> new ZipfDistribution(0, 1.0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("n must be positive");
+    }
+
+    private static int[] sample(ZipfDistribution zipf) {
+        Random random = new Random(42);
+        int[] counts = new int[zipf.size()];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[zipf.sample(random)]++;
+        }
+        return counts;
+    }
+}